@@ -0,0 +1,75 @@
+package com.detailing.benchmarks;
+
+import com.detailing.model.Availability;
+import com.detailing.repository.InMemoryAvailabilityAsyncRepository;
+import com.detailing.repository.InMemoryAvailabilityRepository;
+import com.detailing.repository.InMemoryAvailabilityRuleRepository;
+import com.detailing.repository.InMemoryAvailabilityVersionRepository;
+import com.detailing.service.AvailabilityRuleService;
+import com.detailing.service.AvailabilityService;
+import com.detailing.service.PricingService;
+import com.detailing.service.ServiceConfigurationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    @Param({"0", "30"})
+    public long snapshotTtlSeconds;
+
+    @Param({"basic_shine", "earned_signature"})
+    public String serviceType;
+
+    private AvailabilityService availabilityService;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        ServiceConfigurationService serviceConfiguration = BenchmarkFixtures.serviceConfiguration();
+        PricingService pricingService = BenchmarkFixtures.pricingService(serviceConfiguration, false);
+        InMemoryAvailabilityRepository repository = new InMemoryAvailabilityRepository();
+
+        date = LocalDate.of(2025, 7, 12);
+        String dateStr = date.toString();
+        repository.save(BenchmarkFixtures.slot(dateStr, "09:00", Availability.AvailabilityStatus.BOOKED, "booking-1"));
+        repository.save(BenchmarkFixtures.slot(dateStr, "10:00", Availability.AvailabilityStatus.BOOKED, "booking-1"));
+        repository.save(BenchmarkFixtures.slot(dateStr, "13:00", Availability.AvailabilityStatus.BLOCKED, null));
+        repository.save(BenchmarkFixtures.slot(dateStr, "16:00", Availability.AvailabilityStatus.BOOKED, "booking-2"));
+
+        availabilityService = new AvailabilityService(repository,
+                new InMemoryAvailabilityAsyncRepository(repository), new InMemoryAvailabilityVersionRepository(),
+                serviceConfiguration, pricingService,
+                new AvailabilityRuleService(new InMemoryAvailabilityRuleRepository(), event -> { }),
+                event -> { }, snapshotTtlSeconds, 400, 92, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<String> findStartSlots() {
+        return availabilityService.findStartSlots(date, serviceType, null);
+    }
+
+    @Benchmark
+    public List<String> findStartSlotsExcludingBooking() {
+        return availabilityService.findStartSlots(date, serviceType, "booking-1");
+    }
+}
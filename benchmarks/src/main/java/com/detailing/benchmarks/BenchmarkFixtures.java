@@ -0,0 +1,61 @@
+package com.detailing.benchmarks;
+
+import com.detailing.config.DynamicPricingConfig;
+import com.detailing.model.Availability;
+import com.detailing.model.Booking;
+import com.detailing.service.PricingService;
+import com.detailing.service.ServiceConfigurationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+    private BenchmarkFixtures() {
+    }
+
+    static ServiceConfigurationService serviceConfiguration() {
+        ServiceConfigurationService service = new ServiceConfigurationService(
+                new DefaultResourceLoader(), new ObjectMapper(), event -> { },
+                "classpath:catalog/services.json");
+        service.init();
+        return service;
+    }
+
+    static PricingService pricingService(ServiceConfigurationService serviceConfiguration, boolean dynamic) {
+        DynamicPricingConfig config = new DynamicPricingConfig();
+        config.setEnabled(dynamic);
+        return new PricingService(serviceConfiguration, config);
+    }
+
+    static Availability slot(String date, String slot, Availability.AvailabilityStatus status, String bookingId) {
+        Availability availability = new Availability();
+        availability.setDate(date);
+        availability.setSlot(slot);
+        availability.setStatus(status);
+        availability.setBookingId(bookingId);
+        return availability;
+    }
+
+    static Booking booking() {
+        Booking booking = new Booking();
+        booking.setBookingId("8f14e45f-ceea-467a-9a36-dedd4bea2543");
+        booking.setName("Jordan Example");
+        booking.setEmail("jordan@example.com");
+        booking.setPhone("555-0100");
+        booking.setAddress("100 Main St, Springfield");
+        booking.setVehicleType("suv");
+        booking.setServiceType("full_interior");
+        booking.setAddons(List.of("clay_bar_treatment", "pet_hair_removal", "ozone_odor_treatment"));
+        booking.setAppointmentTime(LocalDateTime.of(2025, 7, 12, 10, 0));
+        booking.setPaymentMethod(Booking.PaymentMethod.ONLINE);
+        booking.setStatus(Booking.BookingStatus.CONFIRMED);
+        booking.setCreatedAt(Instant.parse("2025-07-01T12:00:00Z"));
+        return booking;
+    }
+}
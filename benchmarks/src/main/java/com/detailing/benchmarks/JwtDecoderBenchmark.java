@@ -0,0 +1,61 @@
+package com.detailing.benchmarks;
+
+import com.detailing.config.CachingJwtDecoder;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    @Param({"0", "1000"})
+    public long cacheSize;
+
+    private CachingJwtDecoder decoder;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        decoder = new CachingJwtDecoder(BenchmarkFixtures.JWT_SECRET, cacheSize);
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("admin-sub")
+                .claim("username", "admin")
+                .claim("email", "admin@example.com")
+                .claim("phone_number", "+15550100")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(604800)))
+                .build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        signedJWT.sign(new MACSigner(BenchmarkFixtures.JWT_SECRET.getBytes()));
+        token = signedJWT.serialize();
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+}
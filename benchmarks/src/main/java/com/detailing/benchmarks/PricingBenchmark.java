@@ -0,0 +1,56 @@
+package com.detailing.benchmarks;
+
+import com.detailing.service.PricingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingBenchmark {
+
+    @Param({"0", "3", "9"})
+    public int addonCount;
+
+    private static final List<String> ALL_ADDONS = List.of(
+            "clay_bar_treatment", "headlight_restoration", "high_gloss_tire_dressing",
+            "windshield_rain_repellent", "pet_hair_removal", "ozone_odor_treatment",
+            "stain_extraction", "engine_bay_deep_cleaning", "scratch_paint_touch_up");
+
+    private PricingService pricingService;
+    private List<String> addons;
+    private LocalDateTime start;
+
+    @Setup
+    public void setUp() {
+        pricingService = BenchmarkFixtures.pricingService(BenchmarkFixtures.serviceConfiguration(), true);
+        addons = ALL_ADDONS.subList(0, addonCount);
+        start = LocalDateTime.of(2025, 7, 12, 10, 0);
+    }
+
+    @Benchmark
+    public int calculateTotalPrice() {
+        return pricingService.calculateTotalPrice("full_interior", addons);
+    }
+
+    @Benchmark
+    public int calculateDynamicTotalPrice() {
+        return pricingService.calculateTotalPrice("full_interior", addons, start, 0.5);
+    }
+}
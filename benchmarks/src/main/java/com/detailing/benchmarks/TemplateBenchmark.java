@@ -0,0 +1,57 @@
+package com.detailing.benchmarks;
+
+import com.detailing.model.Booking;
+import com.detailing.service.CalendarService;
+import com.detailing.service.EmailTemplateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+    private EmailTemplateService emailTemplateService;
+    private CalendarService calendarService;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        emailTemplateService = new EmailTemplateService();
+        calendarService = new CalendarService();
+        booking = BenchmarkFixtures.booking();
+    }
+
+    @Benchmark
+    public String confirmationHtml() {
+        return emailTemplateService.generateBookingConfirmationEmail(booking);
+    }
+
+    @Benchmark
+    public String confirmationPlainText() {
+        return emailTemplateService.generateBookingConfirmationPlainText(booking);
+    }
+
+    @Benchmark
+    public String adminNotificationHtml() {
+        return emailTemplateService.generateAdminBookingNotificationEmail(booking);
+    }
+
+    @Benchmark
+    public String calendarInvite() {
+        return calendarService.generateCalendarInvite(booking);
+    }
+}
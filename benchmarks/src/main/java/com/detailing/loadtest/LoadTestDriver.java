@@ -0,0 +1,366 @@
+package com.detailing.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.stripe.Stripe;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadTestDriver {
+
+    private static final List<String> SERVICES = List.of("basic_shine", "full_interior", "earned_signature");
+    private static final List<String> ADDONS = List.of(
+            "clay_bar_treatment", "headlight_restoration", "high_gloss_tire_dressing",
+            "pet_hair_removal", "ozone_odor_treatment", "stain_extraction");
+    private static final List<String> VEHICLES = List.of("sedan", "suv", "truck");
+
+    enum Scenario {
+        BROWSE,
+        BOOK,
+        ADMIN
+    }
+
+    private final Map<String, String> options;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String webhookSecret;
+    private final String adminToken;
+    private final int daysAhead;
+    private final AtomicLong eventIds = new AtomicLong();
+    private Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    LoadTestDriver(Map<String, String> options) throws Exception {
+        this.options = options;
+        this.baseUrl = option("base-url", "http://localhost:8080");
+        this.webhookSecret = option("webhook-secret", "whsec_loadtest");
+        this.daysAhead = Integer.parseInt(option("days-ahead", "60"));
+        this.adminToken = mintAdminToken(option("jwt-secret", "loadtest-secret-loadtest-secret-0123456789"));
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        LoadTestDriver driver = new LoadTestDriver(options);
+        int stubPort = Integer.parseInt(driver.option("stub-port", "9090"));
+        StubServer stub = null;
+        if (stubPort > 0) {
+            stub = new StubServer(stubPort, Long.parseLong(driver.option("stub-latency-ms", "50")), 64);
+            stub.start();
+        }
+
+        try {
+            driver.run();
+        } finally {
+            if (stub != null) {
+                System.out.println();
+                System.out.println("Stub requests: " + stub.getRequestCounts());
+                stub.close();
+            }
+        }
+    }
+
+    void run() throws Exception {
+        int concurrency = Integer.parseInt(option("concurrency", "32"));
+        int phaseSeconds = Integer.parseInt(option("phase-seconds", "30"));
+        String[] mix = option("mix", "70,20,10").split(",");
+        int[] weights = {Integer.parseInt(mix[0].trim()), Integer.parseInt(mix[1].trim()), Integer.parseInt(mix[2].trim())};
+
+        System.out.printf("Load test against %s: concurrency=%d, phase=%ds, mix browse/book/admin=%s%n",
+                baseUrl, concurrency, phaseSeconds, String.join("/", mix));
+
+        for (Scenario scenario : Scenario.values()) {
+            runPhase(scenario.name().toLowerCase(), concurrency, phaseSeconds, () -> scenario);
+        }
+        runPhase("mixed", concurrency, phaseSeconds, () -> pick(weights));
+    }
+
+    private void runPhase(String name, int concurrency, int seconds, ScenarioChooser chooser) throws Exception {
+        recorders = new ConcurrentHashMap<>();
+        Map<Scenario, AtomicLong> iterations = new ConcurrentHashMap<>();
+        long dynamoBefore = dynamoDbCallCount();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        long started = System.nanoTime();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    Scenario scenario = chooser.next();
+                    long start = System.nanoTime();
+                    boolean success = runScenario(scenario);
+                    recorder(scenario.name().toLowerCase(), "total").record(System.nanoTime() - start, success);
+                    iterations.computeIfAbsent(scenario, s -> new AtomicLong()).incrementAndGet();
+                }
+            }, "loadtest-" + name + "-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        long dynamoAfter = dynamoDbCallCount();
+        report(name, elapsed, iterations, dynamoBefore, dynamoAfter);
+    }
+
+    private boolean runScenario(Scenario scenario) {
+        try {
+            switch (scenario) {
+                case BROWSE:
+                    return browse();
+                case BOOK:
+                    return book();
+                case ADMIN:
+                    return admin();
+                default:
+                    return false;
+            }
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean browse() throws Exception {
+        LocalDate date = randomDate();
+        String service = random(SERVICES);
+        return timed("browse", "slots", get("/api/availability/slots/" + date + "?serviceType=" + service, null)).statusCode() == 200;
+    }
+
+    private boolean book() throws Exception {
+        LocalDate date = randomDate();
+        String service = random(SERVICES);
+
+        HttpResponse<String> slots = timed("book", "slots", get("/api/availability/slots/" + date + "?serviceType=" + service, null));
+        if (slots.statusCode() != 200) {
+            return false;
+        }
+        JsonNode available = objectMapper.readTree(slots.body()).path("availableSlots");
+        if (!available.isArray() || available.isEmpty()) {
+            return true;
+        }
+        String slot = available.get(ThreadLocalRandom.current().nextInt(available.size())).asText();
+
+        Map<String, Object> booking = new LinkedHashMap<>();
+        booking.put("name", "Load Test");
+        booking.put("email", "loadtest+" + eventIds.incrementAndGet() + "@example.com");
+        booking.put("phone", "555-0100");
+        booking.put("address", "100 Main St");
+        booking.put("vehicleType", random(VEHICLES));
+        booking.put("serviceType", service);
+        booking.put("addons", List.of(random(ADDONS)));
+        booking.put("appointmentTime", date + "T" + slot + ":00");
+        booking.put("paymentMethod", "ONLINE");
+
+        HttpResponse<String> created = timed("book", "create", post("/api/bookings", objectMapper.writeValueAsString(booking), null));
+        if (created.statusCode() != 201) {
+            return false;
+        }
+        String bookingId = objectMapper.readTree(created.body()).path("bookingId").asText();
+
+        HttpResponse<String> checkout = timed("book", "checkout",
+                post("/api/stripe/create-checkout-session", objectMapper.writeValueAsString(Map.of("bookingId", bookingId)), null));
+        if (checkout.statusCode() != 200) {
+            return false;
+        }
+        String sessionId = objectMapper.readTree(checkout.body()).path("sessionId").asText();
+
+        String payload = webhookPayload(sessionId, bookingId);
+        HttpRequest webhook = HttpRequest.newBuilder(URI.create(baseUrl + "/api/stripe/webhook"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Stripe-Signature", sign(payload))
+                .POST(HttpRequest.BodyPublishers.ofString(payload))
+                .build();
+        return timed("book", "webhook", webhook).statusCode() == 200;
+    }
+
+    private boolean admin() throws Exception {
+        boolean stats = timed("admin", "stats", get("/api/admin/stats", adminToken)).statusCode() == 200;
+        boolean bookings = timed("admin", "bookings", get("/api/admin/bookings", adminToken)).statusCode() == 200;
+        return stats && bookings;
+    }
+
+    private HttpResponse<String> timed(String scenario, String step, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            recorder(scenario, step).record(System.nanoTime() - start, false);
+            throw e;
+        }
+        recorder(scenario, step).record(System.nanoTime() - start, response.statusCode() < 400);
+        return response;
+    }
+
+    private HttpRequest get(String path, String bearer) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (bearer != null) {
+            builder.header("Authorization", "Bearer " + bearer);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String json, String bearer) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (bearer != null) {
+            builder.header("Authorization", "Bearer " + bearer);
+        }
+        return builder.build();
+    }
+
+    private String webhookPayload(String sessionId, String bookingId) throws Exception {
+        Map<String, Object> session = new LinkedHashMap<>();
+        session.put("id", sessionId);
+        session.put("object", "checkout.session");
+        session.put("payment_status", "paid");
+        session.put("metadata", Map.of("booking_id", bookingId));
+
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("id", "evt_loadtest_" + eventIds.incrementAndGet());
+        event.put("object", "event");
+        event.put("api_version", Stripe.API_VERSION);
+        event.put("created", Instant.now().getEpochSecond());
+        event.put("type", "checkout.session.completed");
+        event.put("data", Map.of("object", session));
+        return objectMapper.writeValueAsString(event);
+    }
+
+    private String sign(String payload) throws Exception {
+        long timestamp = Instant.now().getEpochSecond();
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(webhookSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] digest = mac.doFinal((timestamp + "." + payload).getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hex.append(String.format("%02x", b));
+        }
+        return "t=" + timestamp + ",v1=" + hex;
+    }
+
+    private long dynamoDbCallCount() {
+        String metricsUrl = option("metrics-url", "http://localhost:8081/actuator/metrics");
+        try {
+            HttpResponse<String> response = http.send(
+                    HttpRequest.newBuilder(URI.create(metricsUrl + "/dynamodb.operation")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return -1;
+            }
+            for (JsonNode measurement : objectMapper.readTree(response.body()).path("measurements")) {
+                if ("COUNT".equals(measurement.path("statistic").asText())) {
+                    return measurement.path("value").asLong();
+                }
+            }
+        } catch (Exception e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    private void report(String phase, double elapsed, Map<Scenario, AtomicLong> iterations, long dynamoBefore, long dynamoAfter) {
+        System.out.println();
+        System.out.printf("== phase %s (%.1fs) ==%n", phase, elapsed);
+        System.out.printf("%-18s %8s %7s %9s %9s %9s %9s %9s%n", "step", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        recorders.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    LatencyRecorder.Summary s = entry.getValue().summarize(elapsed);
+                    System.out.printf("%-18s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), s.count(), s.errors(),
+                            s.throughput(), s.p50() / 1e6, s.p90() / 1e6, s.p99() / 1e6, s.max() / 1e6);
+                });
+
+        if (dynamoBefore < 0 || dynamoAfter < 0) {
+            System.out.println("DynamoDB calls: n/a (metrics endpoint unavailable or in-memory backend)");
+            return;
+        }
+        long calls = dynamoAfter - dynamoBefore;
+        long totalIterations = iterations.values().stream().mapToLong(AtomicLong::get).sum();
+        System.out.printf("DynamoDB calls: %d total, %.2f per scenario iteration%n",
+                calls, totalIterations == 0 ? 0.0 : (double) calls / totalIterations);
+    }
+
+    private LatencyRecorder recorder(String scenario, String step) {
+        return recorders.computeIfAbsent(scenario + "/" + step, key -> new LatencyRecorder());
+    }
+
+    private Scenario pick(int[] weights) {
+        int total = weights[0] + weights[1] + weights[2];
+        int roll = ThreadLocalRandom.current().nextInt(Math.max(total, 1));
+        if (roll < weights[0]) {
+            return Scenario.BROWSE;
+        }
+        if (roll < weights[0] + weights[1]) {
+            return Scenario.BOOK;
+        }
+        return Scenario.ADMIN;
+    }
+
+    private LocalDate randomDate() {
+        return LocalDate.now().plusDays(1 + ThreadLocalRandom.current().nextInt(daysAhead));
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static String mintAdminToken(String secret) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("loadtest-admin")
+                .claim("username", "loadtest-admin")
+                .claim("email", "admin@example.com")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(86400)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        jwt.sign(new MACSigner(secret.getBytes()));
+        return jwt.serialize();
+    }
+
+    @FunctionalInterface
+    private interface ScenarioChooser {
+        Scenario next();
+    }
+}
@@ -0,0 +1,106 @@
+package com.detailing.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final AtomicLong ids = new AtomicLong();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    public StubServer(int port, long latencyMs, int threads) throws IOException {
+        this.latencyMs = latencyMs;
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.setExecutor(executor);
+
+        server.createContext("/token", exchange -> respond(exchange, "gmail.token",
+                "{\"access_token\":\"stub-access-token\",\"expires_in\":3600,\"token_type\":\"Bearer\"}"));
+        server.createContext("/gmail/v1/users/me/messages/send", exchange -> {
+            long id = ids.incrementAndGet();
+            respond(exchange, "gmail.send", "{\"id\":\"msg_" + id + "\",\"threadId\":\"thread_" + id + "\"}");
+        });
+        server.createContext("/v1/checkout/sessions", exchange -> {
+            String id = "cs_test_" + ids.incrementAndGet();
+            respond(exchange, "stripe.checkout.session",
+                    "{\"id\":\"" + id + "\",\"object\":\"checkout.session\",\"mode\":\"payment\","
+                            + "\"status\":\"open\",\"url\":\"http://localhost/pay/" + id + "\",\"metadata\":{}}");
+        });
+        server.createContext("/", exchange -> {
+            count("unmatched");
+            drain(exchange);
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new java.util.TreeMap<>();
+        requestCounts.forEach((name, count) -> counts.put(name, count.sum()));
+        return counts;
+    }
+
+    private void respond(HttpExchange exchange, String name, String body) throws IOException {
+        count(name);
+        drain(exchange);
+        if (latencyMs > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void count(String name) {
+        requestCounts.computeIfAbsent(name, n -> new LongAdder()).increment();
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+        StubServer stub = new StubServer(port, latencyMs, 64);
+        stub.start();
+        System.out.println("Stub Gmail/Stripe server listening on port " + port);
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        Thread.currentThread().join();
+    }
+}
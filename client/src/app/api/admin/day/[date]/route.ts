@@ -0,0 +1,6 @@
+import { proxyApi } from '@/lib/proxy-api';
+
+export async function GET(req: Request, { params }: { params: Promise<{ date: string }> }) {
+    const { date } = await params;
+    return proxyApi(req, `/api/admin/day/${date}`, 'GET');
+}
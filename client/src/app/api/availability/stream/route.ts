@@ -0,0 +1,10 @@
+import { proxyEventStream } from '@/lib/proxy-api';
+
+export const dynamic = 'force-dynamic';
+
+export async function GET(req: Request) {
+    const { searchParams } = new URL(req.url);
+    const dates = searchParams.get('dates') ?? '';
+
+    return proxyEventStream(req, `/api/availability/stream?dates=${encodeURIComponent(dates)}`);
+}
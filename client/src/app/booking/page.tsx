@@ -1,6 +1,6 @@
 'use client';
 
-import { useState, FormEvent, useEffect, useCallback } from 'react';
+import { useState, FormEvent, useEffect, useCallback, useRef } from 'react';
 import { useRouter, useSearchParams } from 'next/navigation';
 import { format } from 'date-fns';
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '@/components/ui/card';
@@ -113,6 +113,36 @@ export default function BookingPage() {
         }
     }, [formData.appointmentDate, formData.serviceType, fetchAvailableSlots]);
 
+    const refreshSlots = useRef<() => void>(() => {});
+    useEffect(() => {
+        refreshSlots.current = () => {
+            if (formData.appointmentDate && formData.serviceType) {
+                fetchAvailableSlots(formData.appointmentDate, formData.serviceType);
+            }
+        };
+    }, [formData.appointmentDate, formData.serviceType, fetchAvailableSlots]);
+
+    useEffect(() => {
+        if (!formData.appointmentDate || typeof EventSource === 'undefined') {
+            return;
+        }
+
+        const dateStr = format(formData.appointmentDate, 'yyyy-MM-dd');
+        const source = new EventSource(`/api/availability/stream?dates=${dateStr}`);
+        let connected = false;
+        const refresh = () => refreshSlots.current();
+
+        // A repeated "ready" means the stream reconnected and may have missed changes.
+        source.addEventListener('ready', () => {
+            if (connected) refresh();
+            connected = true;
+        });
+        source.addEventListener('availability', refresh);
+        source.addEventListener('resync', refresh);
+
+        return () => source.close();
+    }, [formData.appointmentDate]);
+
     const handleInputChange = (field: keyof BookingFormData, value: string | Date | undefined) => {
         setFormData(prev => ({
             ...prev,
@@ -10,7 +10,7 @@ import { Label } from '@/components/ui/label';
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from '@/components/ui/select';
 import { BookingEditDialog } from './BookingEditDialog';
 import { BookingsTable } from './BookingsTable';
-import { fetcher } from '@/lib/admin-utils';
+import { authHeaders, fetcher } from '@/lib/admin-utils';
 import { Booking } from '@/types/admin';
 
 export function AllBookingsTab() {
@@ -115,7 +115,7 @@ export function AllBookingsTab() {
 
             const response = await fetch(`/api/admin/bookings/${editForm.bookingId}`, {
                 method: 'PUT',
-                headers: { 'Content-Type': 'application/json' },
+                headers: authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify(editForm)
             });
 
@@ -143,7 +143,7 @@ export function AllBookingsTab() {
             if (booking.hidden) {
                 const response = await fetch(`/api/admin/bookings/${booking.bookingId}`, {
                     method: 'PUT',
-                    headers: { 'Content-Type': 'application/json' },
+                    headers: authHeaders({ 'Content-Type': 'application/json' }),
                     body: JSON.stringify({ ...booking, hidden: false })
                 });
 
@@ -154,7 +154,7 @@ export function AllBookingsTab() {
             } else {
                 const response = await fetch(`/api/admin/bookings/${booking.bookingId}/hide`, {
                     method: 'PUT',
-                    headers: { 'Content-Type': 'application/json' }
+                    headers: authHeaders({ 'Content-Type': 'application/json' })
                 });
 
                 if (!response.ok) {
@@ -7,6 +7,7 @@ import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '@/com
 import { Loader2, LogOut, User } from 'lucide-react';
 import React from 'react';
 import type { User as UserType } from '@/types/user';
+import { authHeaders } from '@/lib/admin-utils';
 
 interface InjectedProps {
     user: UserType;
@@ -99,12 +100,8 @@ export function AuthWrapper({ children }: AuthWrapperProps) {
 
     const handleLogout = async () => {
         try {
-            localStorage.removeItem('authToken');
-            setAuthToken(null);
-            setUser(null);
-
             try {
-                const response = await fetch('/api/auth/logout-url');
+                const response = await fetch('/api/auth/logout-url', { headers: authHeaders() });
                 if (response.ok) {
                     const { logoutUrl } = await response.json();
                     window.open(logoutUrl, '_blank');
@@ -113,6 +110,10 @@ export function AuthWrapper({ children }: AuthWrapperProps) {
                 console.log('Unable to get backend logout URL, continuing with local logout');
             }
 
+            localStorage.removeItem('authToken');
+            setAuthToken(null);
+            setUser(null);
+
             setTimeout(() => {
                 window.location.href = '/admin';
             }, 100);
@@ -12,7 +12,7 @@ import { cn } from '@/lib/utils';
 import { Skeleton } from '@/components/ui/skeleton';
 import { Popover, PopoverContent, PopoverTrigger } from '@/components/ui/popover';
 import { BookingStatusBadge } from './BookingStatusBadge';
-import { TIME_SLOTS, formatTimeSlot } from '@/lib/admin-utils';
+import { TIME_SLOTS, authHeaders, formatTimeSlot } from '@/lib/admin-utils';
 import { Availability, BookingDetails } from '@/types/admin';
 import { getServiceById } from '@/lib/services';
 
@@ -26,6 +26,7 @@ export function AvailabilityTab() {
     const [selectedBookingSlot, setSelectedBookingSlot] = useState<string>('');
     const [bookingDetails, setBookingDetails] = useState<BookingDetails | null>(null);
     const [loadingBookingDetails, setLoadingBookingDetails] = useState(false);
+    const [dayBookings, setDayBookings] = useState<Record<string, any>>({});
 
     useEffect(() => {
         fetchAvailability();
@@ -37,18 +38,33 @@ export function AvailabilityTab() {
 
         try {
             const dateStr = format(selectedDate, 'yyyy-MM-dd');
-            const response = await fetch(`/api/availability/${dateStr}`);
+            const response = await fetch(`/api/admin/day/${dateStr}`, { headers: authHeaders() });
 
             if (!response.ok) {
                 throw new Error('Failed to fetch availability');
             }
 
-            const data: Availability[] = await response.json();
-            setAvailability(data);
+            const data = await response.json();
+            const entries: Availability[] = [];
+            const bookings: Record<string, any> = {};
+            if (data.dayBlocked) {
+                entries.push({ date: data.date, slot: 'ALL_DAY', status: 'BLOCKED', reason: data.dayBlockReason ?? undefined });
+            }
+            for (const row of data.slots) {
+                if (row.status !== 'AVAILABLE') {
+                    entries.push({ date: data.date, slot: row.slot, status: row.status, reason: row.reason ?? undefined, bookingId: row.bookingId ?? undefined });
+                }
+                if (row.booking) {
+                    bookings[row.slot] = row.booking;
+                }
+            }
+            setAvailability(entries);
+            setDayBookings(bookings);
         } catch (err) {
             console.error('Error fetching availability:', err);
             setError('Failed to load availability data');
             setAvailability([]);
+            setDayBookings({});
         } finally {
             setLoading(false);
         }
@@ -59,7 +75,7 @@ export function AvailabilityTab() {
             const dateStr = format(selectedDate, 'yyyy-MM-dd');
             const response = await fetch('/api/availability/block-day', {
                 method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
+                headers: authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({ date: dateStr, reason: 'admin_blocked' })
             });
 
@@ -80,7 +96,7 @@ export function AvailabilityTab() {
             const dateStr = format(selectedDate, 'yyyy-MM-dd');
             const response = await fetch('/api/availability/unblock-day', {
                 method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
+                headers: authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({ date: dateStr })
             });
 
@@ -115,7 +131,7 @@ export function AvailabilityTab() {
                 
                 const response = await fetch('/api/availability/unblock-slot', {
                     method: 'POST',
-                    headers: { 'Content-Type': 'application/json' },
+                    headers: authHeaders({ 'Content-Type': 'application/json' }),
                     body: JSON.stringify({ date: dateStr, slot })
                 });
 
@@ -125,7 +141,7 @@ export function AvailabilityTab() {
             } else {
                 const response = await fetch('/api/availability/block-slot', {
                     method: 'POST',
-                    headers: { 'Content-Type': 'application/json' },
+                    headers: authHeaders({ 'Content-Type': 'application/json' }),
                     body: JSON.stringify({
                         date: dateStr,
                         slot,
@@ -153,7 +169,7 @@ export function AvailabilityTab() {
         try {
             const response = await fetch('/api/availability/cancel-booking', {
                 method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
+                headers: authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({ bookingId: bookingDetails.bookingId, reason: 'Cancelled by admin via availability tab' })
             });
 
@@ -186,18 +202,21 @@ export function AvailabilityTab() {
     const fetchBookingDetails = async (slot: string) => {
         setLoadingBookingDetails(true);
         try {
-            const dateStr = format(selectedDate, 'yyyy-MM-dd');
-            const response = await fetch(`/api/availability/booking-details/${dateStr}/${slot}`);
+            let rawDetails = dayBookings[slot];
+            if (!rawDetails) {
+                const dateStr = format(selectedDate, 'yyyy-MM-dd');
+                const response = await fetch(`/api/availability/booking-details/${dateStr}/${slot}`);
 
-            if (!response.ok) {
-                throw new Error('Failed to fetch booking details');
-            }
+                if (!response.ok) {
+                    throw new Error('Failed to fetch booking details');
+                }
 
-            const responseData = await response.json();
-            if (!responseData.booking) {
-                throw new Error('Booking data not found in response');
+                const responseData = await response.json();
+                if (!responseData.booking) {
+                    throw new Error('Booking data not found in response');
+                }
+                rawDetails = responseData.booking;
             }
-            const rawDetails = responseData.booking;
 
             
             const serviceDefinition = getServiceById(rawDetails.serviceType);
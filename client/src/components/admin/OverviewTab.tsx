@@ -10,7 +10,7 @@ import { Skeleton } from '@/components/ui/skeleton';
 import { StatCard } from './StatCard';
 import { BookingEditDialog } from './BookingEditDialog';
 import { BookingsTable } from './BookingsTable';
-import { fetcher, getCurrentDate, getCurrentTime } from '@/lib/admin-utils';
+import { authHeaders, fetcher, getCurrentDate, getCurrentTime } from '@/lib/admin-utils';
 import { AdminStats, Booking } from '@/types/admin';
 
 export function OverviewTab() {
@@ -112,7 +112,7 @@ export function OverviewTab() {
 
             const response = await fetch(`/api/admin/bookings/${editForm.bookingId}`, {
                 method: 'PUT',
-                headers: { 'Content-Type': 'application/json' },
+                headers: authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify(editForm)
             });
 
@@ -145,7 +145,7 @@ export function OverviewTab() {
 
             const response = await fetch(`/api/admin/bookings/${bookingToCancel.bookingId}/cancel`, {
                 method: 'POST',
-                headers: { 'Content-Type': 'application/json' }
+                headers: authHeaders({ 'Content-Type': 'application/json' })
             });
 
             console.log('Cancel response status:', response.status);
@@ -177,7 +177,7 @@ export function OverviewTab() {
         try {
             const response = await fetch('/api/admin/bookings/cleanup', {
                 method: 'DELETE',
-                headers: { 'Content-Type': 'application/json' }
+                headers: authHeaders({ 'Content-Type': 'application/json' })
             });
 
             if (!response.ok) {
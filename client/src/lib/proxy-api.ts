@@ -1,17 +1,26 @@
 import { NextResponse } from 'next/server';
 
-export async function proxyApi(req: Request, path: string, method: string = req.method) {
-    const backendUrl = process.env.BACKEND_URL ?? 'http://localhost:8080';
+const backendUrl = () => process.env.BACKEND_URL ?? 'http://localhost:8080';
 
-    const headers: HeadersInit = { 'Content-Type': 'application/json' };
-    ['cookie', 'authorization'].forEach(h => {
+function forwardedHeaders(req: Request, headers: Record<string, string>) {
+    ['cookie', 'authorization', 'if-none-match'].forEach(h => {
         const v = req.headers.get(h);
-        if (v) headers[h.charAt(0).toUpperCase() + h.slice(1)] = v;
+        if (v) headers[h.replace(/(^|-)\w/g, c => c.toUpperCase())] = v;
     });
 
+    const clientIp = trustedClientIp(req);
+    if (clientIp) {
+        headers['X-Forwarded-For'] = clientIp;
+    }
+    return headers;
+}
+
+export async function proxyApi(req: Request, path: string, method: string = req.method) {
+    const headers = forwardedHeaders(req, { 'Content-Type': 'application/json' });
+
     const body = method === 'GET' ? undefined : await req.text();
 
-    const resp = await fetch(`${backendUrl}${path}`, {
+    const resp = await fetch(`${backendUrl()}${path}`, {
         method,
         headers,
         body,
@@ -19,6 +28,48 @@ export async function proxyApi(req: Request, path: string, method: string = req.
         redirect: 'follow'
     });
 
+    const cacheHeaders: Record<string, string> = {};
+    ['etag', 'cache-control'].forEach(h => {
+        const v = resp.headers.get(h);
+        if (v) cacheHeaders[h] = v;
+    });
+
+    if (resp.status === 304) {
+        return new NextResponse(null, { status: 304, headers: cacheHeaders });
+    }
+
     const data = await resp.json();
-    return NextResponse.json(data, { status: resp.status });
+    return NextResponse.json(data, { status: resp.status, headers: cacheHeaders });
+}
+
+export async function proxyEventStream(req: Request, path: string) {
+    const resp = await fetch(`${backendUrl()}${path}`, {
+        headers: forwardedHeaders(req, { Accept: 'text/event-stream' }),
+        cache: 'no-store',
+        signal: req.signal
+    });
+
+    if (!resp.ok || !resp.body) {
+        const data = await resp.json().catch(() => ({ error: 'Availability stream unavailable' }));
+        return NextResponse.json(data, { status: resp.ok ? 502 : resp.status });
+    }
+
+    return new Response(resp.body, {
+        status: 200,
+        headers: {
+            'Content-Type': 'text/event-stream',
+            'Cache-Control': 'no-cache, no-transform',
+            'X-Accel-Buffering': 'no'
+        }
+    });
+}
+
+// Only a header that the front end in front of Next.js overwrites on every
+// request (e.g. x-real-ip on Vercel, cf-connecting-ip behind Cloudflare) is
+// trusted. Without CLIENT_IP_HEADER no client address is forwarded at all.
+function trustedClientIp(req: Request): string | undefined {
+    const header = process.env.CLIENT_IP_HEADER;
+    if (!header) return undefined;
+    const value = req.headers.get(header)?.trim();
+    return value && !value.includes(',') ? value : undefined;
 }
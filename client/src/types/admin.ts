@@ -23,6 +23,7 @@ export interface Booking {
     paymentMethod: 'ONLINE' | 'IN_PERSON';
     status: 'PENDING_PAYMENT' | 'CONFIRMED' | 'COMPLETED' | 'CANCELED_BY_USER' | 'CANCELED_BY_ADMIN' | 'HIDDEN';
     createdAt: string;
+    totalPriceCents?: number;
     hidden?: boolean; 
 }
 
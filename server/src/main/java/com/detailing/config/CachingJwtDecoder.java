@@ -0,0 +1,130 @@
+package com.detailing.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingJwtDecoder.class);
+
+    private final MACVerifier verifier;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(String jwtSecret, long maxSize) {
+        MACVerifier macVerifier = null;
+        try {
+            macVerifier = new MACVerifier(jwtSecret.getBytes());
+        } catch (JOSEException e) {
+            logger.error("Could not create JWT verifier, all bearer tokens will be rejected: {}", e.getMessage());
+        }
+        this.verifier = macVerifier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public Cache<String, Jwt> getCache() {
+        return cache;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            throw new JwtException("Failed to decode JWT token: token is null");
+        }
+        Jwt jwt = cache.get(digest(token), key -> verifyAndDecode(token));
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(Instant.now())) {
+            throw new JwtException("Failed to decode JWT token: JWT token has expired");
+        }
+        return jwt;
+    }
+
+    private Jwt verifyAndDecode(String token) {
+        try {
+            if (verifier == null) {
+                throw new JwtException("JWT verifier is not configured");
+            }
+
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            if (!signedJWT.verify(verifier)) {
+                throw new JwtException("Invalid JWT signature");
+            }
+
+            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+            Date expiration = claims.getExpirationTime();
+            if (expiration != null && expiration.before(new Date())) {
+                throw new JwtException("JWT token has expired");
+            }
+
+            Map<String, Object> headers = new HashMap<>();
+            headers.put("typ", "JWT");
+            headers.put("alg", "HS256");
+
+            Map<String, Object> claimsMap = new HashMap<>();
+            claimsMap.put("sub", claims.getSubject());
+            claimsMap.put("username", claims.getClaim("username"));
+            claimsMap.put("email", claims.getClaim("email"));
+            claimsMap.put("phone_number", claims.getClaim("phone_number"));
+            claimsMap.put("exp", claims.getExpirationTime());
+            claimsMap.put("iat", claims.getIssueTime());
+
+            return new Jwt(token, claims.getIssueTime().toInstant(),
+                         claims.getExpirationTime().toInstant(), headers, claimsMap);
+
+        } catch (Exception e) {
+            throw new JwtException("Failed to decode JWT token: " + e.getMessage(), e);
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            if (jwt.getExpiresAt() == null) {
+                return 0L;
+            }
+            return Math.max(0L, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.detailing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Configuration
+@ConfigurationProperties(prefix = "pricing.dynamic")
+public class DynamicPricingConfig {
+
+    private boolean enabled = false;
+    private double lowOccupancyThreshold = 0.3;
+    private int lowOccupancyDiscountPercent = 10;
+    private double highOccupancyThreshold = 0.7;
+    private int highOccupancyPremiumPercent = 10;
+    private Set<DayOfWeek> peakDays = EnumSet.of(DayOfWeek.SATURDAY);
+    private int peakDayPremiumPercent = 15;
+    private int lastMinuteHours = 48;
+    private int lastMinuteDiscountPercent = 5;
+    private int minAdjustmentPercent = -20;
+    private int maxAdjustmentPercent = 30;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getLowOccupancyThreshold() {
+        return lowOccupancyThreshold;
+    }
+
+    public void setLowOccupancyThreshold(double lowOccupancyThreshold) {
+        this.lowOccupancyThreshold = lowOccupancyThreshold;
+    }
+
+    public int getLowOccupancyDiscountPercent() {
+        return lowOccupancyDiscountPercent;
+    }
+
+    public void setLowOccupancyDiscountPercent(int lowOccupancyDiscountPercent) {
+        this.lowOccupancyDiscountPercent = lowOccupancyDiscountPercent;
+    }
+
+    public double getHighOccupancyThreshold() {
+        return highOccupancyThreshold;
+    }
+
+    public void setHighOccupancyThreshold(double highOccupancyThreshold) {
+        this.highOccupancyThreshold = highOccupancyThreshold;
+    }
+
+    public int getHighOccupancyPremiumPercent() {
+        return highOccupancyPremiumPercent;
+    }
+
+    public void setHighOccupancyPremiumPercent(int highOccupancyPremiumPercent) {
+        this.highOccupancyPremiumPercent = highOccupancyPremiumPercent;
+    }
+
+    public Set<DayOfWeek> getPeakDays() {
+        return peakDays;
+    }
+
+    public void setPeakDays(Set<DayOfWeek> peakDays) {
+        this.peakDays = peakDays;
+    }
+
+    public int getPeakDayPremiumPercent() {
+        return peakDayPremiumPercent;
+    }
+
+    public void setPeakDayPremiumPercent(int peakDayPremiumPercent) {
+        this.peakDayPremiumPercent = peakDayPremiumPercent;
+    }
+
+    public int getLastMinuteHours() {
+        return lastMinuteHours;
+    }
+
+    public void setLastMinuteHours(int lastMinuteHours) {
+        this.lastMinuteHours = lastMinuteHours;
+    }
+
+    public int getLastMinuteDiscountPercent() {
+        return lastMinuteDiscountPercent;
+    }
+
+    public void setLastMinuteDiscountPercent(int lastMinuteDiscountPercent) {
+        this.lastMinuteDiscountPercent = lastMinuteDiscountPercent;
+    }
+
+    public int getMinAdjustmentPercent() {
+        return minAdjustmentPercent;
+    }
+
+    public void setMinAdjustmentPercent(int minAdjustmentPercent) {
+        this.minAdjustmentPercent = minAdjustmentPercent;
+    }
+
+    public int getMaxAdjustmentPercent() {
+        return maxAdjustmentPercent;
+    }
+
+    public void setMaxAdjustmentPercent(int maxAdjustmentPercent) {
+        this.maxAdjustmentPercent = maxAdjustmentPercent;
+    }
+}
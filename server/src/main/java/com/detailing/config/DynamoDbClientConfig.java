@@ -0,0 +1,146 @@
+package com.detailing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.core.retry.RetryMode;
+
+@Configuration
+@ConfigurationProperties(prefix = "dynamodb.client")
+public class DynamoDbClientConfig {
+
+    private String endpoint;
+    private int maxConnections = 50;
+    private long connectionTtlMs = 60000L;
+    private long connectionMaxIdleMs = 30000L;
+    private long connectionAcquisitionTimeoutMs = 2000L;
+    private long connectionTimeoutMs = 2000L;
+    private long socketTimeoutMs = 5000L;
+    private long apiCallTimeoutMs = 10000L;
+    private long apiCallAttemptTimeoutMs = 3000L;
+    private boolean tcpKeepAlive = true;
+    private RetryMode retryMode = RetryMode.ADAPTIVE;
+    private int maxRetries = 3;
+    private int retryBudget = 500;
+    private int retryCost = 5;
+    private int throttlingRetryCost = 0;
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public long getConnectionTtlMs() {
+        return connectionTtlMs;
+    }
+
+    public void setConnectionTtlMs(long connectionTtlMs) {
+        this.connectionTtlMs = connectionTtlMs;
+    }
+
+    public long getConnectionMaxIdleMs() {
+        return connectionMaxIdleMs;
+    }
+
+    public void setConnectionMaxIdleMs(long connectionMaxIdleMs) {
+        this.connectionMaxIdleMs = connectionMaxIdleMs;
+    }
+
+    public long getConnectionAcquisitionTimeoutMs() {
+        return connectionAcquisitionTimeoutMs;
+    }
+
+    public void setConnectionAcquisitionTimeoutMs(long connectionAcquisitionTimeoutMs) {
+        this.connectionAcquisitionTimeoutMs = connectionAcquisitionTimeoutMs;
+    }
+
+    public long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public void setConnectionTimeoutMs(long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    public long getSocketTimeoutMs() {
+        return socketTimeoutMs;
+    }
+
+    public void setSocketTimeoutMs(long socketTimeoutMs) {
+        this.socketTimeoutMs = socketTimeoutMs;
+    }
+
+    public long getApiCallTimeoutMs() {
+        return apiCallTimeoutMs;
+    }
+
+    public void setApiCallTimeoutMs(long apiCallTimeoutMs) {
+        this.apiCallTimeoutMs = apiCallTimeoutMs;
+    }
+
+    public long getApiCallAttemptTimeoutMs() {
+        return apiCallAttemptTimeoutMs;
+    }
+
+    public void setApiCallAttemptTimeoutMs(long apiCallAttemptTimeoutMs) {
+        this.apiCallAttemptTimeoutMs = apiCallAttemptTimeoutMs;
+    }
+
+    public boolean isTcpKeepAlive() {
+        return tcpKeepAlive;
+    }
+
+    public void setTcpKeepAlive(boolean tcpKeepAlive) {
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
+    public RetryMode getRetryMode() {
+        return retryMode;
+    }
+
+    public void setRetryMode(RetryMode retryMode) {
+        this.retryMode = retryMode;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public int getRetryBudget() {
+        return retryBudget;
+    }
+
+    public void setRetryBudget(int retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    public int getRetryCost() {
+        return retryCost;
+    }
+
+    public void setRetryCost(int retryCost) {
+        this.retryCost = retryCost;
+    }
+
+    public int getThrottlingRetryCost() {
+        return throttlingRetryCost;
+    }
+
+    public void setThrottlingRetryCost(int throttlingRetryCost) {
+        this.throttlingRetryCost = throttlingRetryCost;
+    }
+}
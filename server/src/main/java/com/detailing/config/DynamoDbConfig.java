@@ -1,29 +1,66 @@
 package com.detailing.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketExceptionCostFunction;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
+@Profile("!in-memory")
 public class DynamoDbConfig {
 
     @Value("${aws.region}")
     private String awsRegion;
+
+    private final DynamoDbClientConfig clientConfig;
+    private final MeterRegistry meterRegistry;
+    private final DynamoDbMetricsInterceptor metricsInterceptor;
+
+    public DynamoDbConfig(DynamoDbClientConfig clientConfig, MeterRegistry meterRegistry) {
+        this.clientConfig = clientConfig;
+        this.meterRegistry = meterRegistry;
+        this.metricsInterceptor = new DynamoDbMetricsInterceptor(meterRegistry);
+    }
     
     @Bean
     public DynamoDbClient dynamoDbClient() {
         
-        return DynamoDbClient.builder()
+        DynamoDbClientBuilder builder = DynamoDbClient.builder()
                 .credentialsProvider(DefaultCredentialsProvider.create())
                 .region(Region.of(awsRegion))
-                
-                .build();
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(clientConfig.getMaxConnections())
+                        .connectionTimeToLive(Duration.ofMillis(clientConfig.getConnectionTtlMs()))
+                        .connectionMaxIdleTime(Duration.ofMillis(clientConfig.getConnectionMaxIdleMs()))
+                        .connectionAcquisitionTimeout(Duration.ofMillis(clientConfig.getConnectionAcquisitionTimeoutMs()))
+                        .connectionTimeout(Duration.ofMillis(clientConfig.getConnectionTimeoutMs()))
+                        .socketTimeout(Duration.ofMillis(clientConfig.getSocketTimeoutMs()))
+                        .tcpKeepAlive(clientConfig.isTcpKeepAlive())
+                        .useIdleConnectionReaper(true))
+                .overrideConfiguration(overrideConfiguration("sync"));
+        if (StringUtils.hasText(clientConfig.getEndpoint())) {
+            builder.endpointOverride(URI.create(clientConfig.getEndpoint()));
+        }
+        return builder.build();
     }
 
     @Bean
@@ -32,4 +69,55 @@ public class DynamoDbConfig {
                 .dynamoDbClient(dynamoDbClient)
                 .build();
     }
-} 
+
+    @Bean(destroyMethod = "close")
+    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .region(Region.of(awsRegion))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(clientConfig.getMaxConnections())
+                        .connectionTimeToLive(Duration.ofMillis(clientConfig.getConnectionTtlMs()))
+                        .connectionMaxIdleTime(Duration.ofMillis(clientConfig.getConnectionMaxIdleMs()))
+                        .connectionAcquisitionTimeout(Duration.ofMillis(clientConfig.getConnectionAcquisitionTimeoutMs()))
+                        .connectionTimeout(Duration.ofMillis(clientConfig.getConnectionTimeoutMs()))
+                        .readTimeout(Duration.ofMillis(clientConfig.getSocketTimeoutMs()))
+                        .writeTimeout(Duration.ofMillis(clientConfig.getSocketTimeoutMs()))
+                        .tcpKeepAlive(clientConfig.isTcpKeepAlive()))
+                .overrideConfiguration(overrideConfiguration("async"));
+        if (StringUtils.hasText(clientConfig.getEndpoint())) {
+            builder.endpointOverride(URI.create(clientConfig.getEndpoint()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbAsyncClient)
+                .build();
+    }
+
+    private ClientOverrideConfiguration overrideConfiguration(String client) {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(clientConfig.getApiCallTimeoutMs()))
+                .apiCallAttemptTimeout(Duration.ofMillis(clientConfig.getApiCallAttemptTimeoutMs()))
+                .retryPolicy(retryPolicy())
+                .addMetricPublisher(new DynamoDbPoolMetricPublisher(meterRegistry, client))
+                .addExecutionInterceptor(metricsInterceptor)
+                .build();
+    }
+
+    private RetryPolicy retryPolicy() {
+        return RetryPolicy.builder(clientConfig.getRetryMode())
+                .numRetries(clientConfig.getMaxRetries())
+                .retryCapacityCondition(TokenBucketRetryCondition.builder()
+                        .tokenBucketSize(clientConfig.getRetryBudget())
+                        .exceptionCostFunction(TokenBucketExceptionCostFunction.builder()
+                                .throttlingExceptionCost(clientConfig.getThrottlingRetryCost())
+                                .defaultExceptionCost(clientConfig.getRetryCost())
+                                .build())
+                        .build())
+                .build();
+    }
+}
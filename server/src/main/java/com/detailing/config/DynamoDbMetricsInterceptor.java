@@ -0,0 +1,204 @@
+package com.detailing.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class DynamoDbMetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("DetailingStartNanos");
+    private static final ExecutionAttribute<DynamoDbRequestStats> REQUEST_STATS = new ExecutionAttribute<>("DetailingRequestStats");
+    private static final Set<String> WRITE_OPERATIONS = Set.of(
+            "PutItem", "DeleteItem", "UpdateItem", "BatchWriteItem", "TransactWriteItems");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> capacityCounters = new ConcurrentHashMap<>();
+
+    public DynamoDbMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+        DynamoDbRequestStats stats = DynamoDbRequestStats.current();
+        if (stats != null) {
+            executionAttributes.putAttribute(REQUEST_STATS, stats);
+        }
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        SdkRequest request = context.request();
+        if (request instanceof GetItemRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof QueryRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof ScanRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof PutItemRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof DeleteItemRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof UpdateItemRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof BatchGetItemRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof BatchWriteItemRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof TransactGetItemsRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof TransactWriteItemsRequest r && r.returnConsumedCapacity() == null) {
+            return r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        return request;
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        record(operation, "success", executionAttributes);
+
+        boolean write = WRITE_OPERATIONS.contains(operation);
+        double readUnits = 0.0;
+        double writeUnits = 0.0;
+        for (ConsumedCapacity capacity : consumedCapacity(context.response())) {
+            if (capacity == null) {
+                continue;
+            }
+            if (capacity.readCapacityUnits() != null || capacity.writeCapacityUnits() != null) {
+                readUnits += capacity.readCapacityUnits() != null ? capacity.readCapacityUnits() : 0.0;
+                writeUnits += capacity.writeCapacityUnits() != null ? capacity.writeCapacityUnits() : 0.0;
+            } else if (capacity.capacityUnits() != null) {
+                if (write) {
+                    writeUnits += capacity.capacityUnits();
+                } else {
+                    readUnits += capacity.capacityUnits();
+                }
+            }
+        }
+
+        if (readUnits > 0) {
+            capacityCounter(operation, "read").increment(readUnits);
+        }
+        if (writeUnits > 0) {
+            capacityCounter(operation, "write").increment(writeUnits);
+        }
+
+        DynamoDbRequestStats stats = executionAttributes.getAttribute(REQUEST_STATS);
+        if (stats != null) {
+            stats.recordCall(operation, readUnits, writeUnits);
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        record(operation, "error", executionAttributes);
+
+        DynamoDbRequestStats stats = executionAttributes.getAttribute(REQUEST_STATS);
+        if (stats != null) {
+            stats.recordCall(operation, 0.0, 0.0);
+        }
+    }
+
+    private void record(String operation, String outcome, ExecutionAttributes executionAttributes) {
+        Long start = executionAttributes.getAttribute(START_NANOS);
+        if (start == null) {
+            return;
+        }
+        timers.computeIfAbsent(operation + '|' + outcome, key -> Timer.builder("dynamodb.operation")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter capacityCounter(String operation, String type) {
+        return capacityCounters.computeIfAbsent(operation + '|' + type, key -> Counter.builder("dynamodb.consumed.capacity")
+                .tag("operation", operation)
+                .tag("type", type)
+                .register(meterRegistry));
+    }
+
+    private static List<ConsumedCapacity> consumedCapacity(SdkResponse response) {
+        if (response instanceof GetItemResponse r) {
+            return Collections.singletonList(r.consumedCapacity());
+        }
+        if (response instanceof QueryResponse r) {
+            return Collections.singletonList(r.consumedCapacity());
+        }
+        if (response instanceof ScanResponse r) {
+            return Collections.singletonList(r.consumedCapacity());
+        }
+        if (response instanceof PutItemResponse r) {
+            return Collections.singletonList(r.consumedCapacity());
+        }
+        if (response instanceof DeleteItemResponse r) {
+            return Collections.singletonList(r.consumedCapacity());
+        }
+        if (response instanceof UpdateItemResponse r) {
+            return Collections.singletonList(r.consumedCapacity());
+        }
+        if (response instanceof BatchGetItemResponse r) {
+            return r.consumedCapacity();
+        }
+        if (response instanceof BatchWriteItemResponse r) {
+            return r.consumedCapacity();
+        }
+        if (response instanceof TransactGetItemsResponse r) {
+            return r.consumedCapacity();
+        }
+        if (response instanceof TransactWriteItemsResponse r) {
+            return r.consumedCapacity();
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.detailing.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DynamoDbPoolMetricPublisher implements MetricPublisher {
+
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+    private final AtomicInteger availableConcurrency = new AtomicInteger();
+    private final AtomicInteger leasedConcurrency = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final Timer acquireTimer;
+    private final Counter retryCounter;
+
+    public DynamoDbPoolMetricPublisher(MeterRegistry meterRegistry, String client) {
+        Gauge.builder("dynamodb.http.pool.max", maxConcurrency, AtomicInteger::get)
+                .tag("client", client).register(meterRegistry);
+        Gauge.builder("dynamodb.http.pool.available", availableConcurrency, AtomicInteger::get)
+                .tag("client", client).register(meterRegistry);
+        Gauge.builder("dynamodb.http.pool.leased", leasedConcurrency, AtomicInteger::get)
+                .tag("client", client).register(meterRegistry);
+        Gauge.builder("dynamodb.http.pool.pending", pendingAcquires, AtomicInteger::get)
+                .tag("client", client).register(meterRegistry);
+        this.acquireTimer = Timer.builder("dynamodb.http.pool.acquire")
+                .tag("client", client)
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("dynamodb.retries")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        for (Integer retries : metricCollection.metricValues(CoreMetric.RETRY_COUNT)) {
+            retryCounter.increment(retries);
+        }
+        record(metricCollection);
+    }
+
+    private void record(MetricCollection collection) {
+        update(collection, HttpMetric.MAX_CONCURRENCY, maxConcurrency);
+        update(collection, HttpMetric.AVAILABLE_CONCURRENCY, availableConcurrency);
+        update(collection, HttpMetric.LEASED_CONCURRENCY, leasedConcurrency);
+        update(collection, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pendingAcquires);
+        for (Duration acquire : collection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)) {
+            acquireTimer.record(acquire);
+        }
+        for (MetricCollection child : collection.children()) {
+            record(child);
+        }
+    }
+
+    private static void update(MetricCollection collection, SdkMetric<Integer> metric, AtomicInteger target) {
+        List<Integer> values = collection.metricValues(metric);
+        if (!values.isEmpty()) {
+            target.set(values.get(values.size() - 1));
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.detailing.config;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+
+public final class DynamoDbRequestStats {
+
+    private static final ThreadLocal<DynamoDbRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final DoubleAdder readCapacityUnits = new DoubleAdder();
+    private final DoubleAdder writeCapacityUnits = new DoubleAdder();
+    private final Map<String, AtomicInteger> callsByOperation = new ConcurrentHashMap<>();
+
+    public static DynamoDbRequestStats begin() {
+        DynamoDbRequestStats stats = new DynamoDbRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static DynamoDbRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordCall(String operation, double readUnits, double writeUnits) {
+        roundTrips.incrementAndGet();
+        callsByOperation.computeIfAbsent(operation, op -> new AtomicInteger()).incrementAndGet();
+        readCapacityUnits.add(readUnits);
+        writeCapacityUnits.add(writeUnits);
+    }
+
+    public int getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    public double getReadCapacityUnits() {
+        return readCapacityUnits.sum();
+    }
+
+    public double getWriteCapacityUnits() {
+        return writeCapacityUnits.sum();
+    }
+
+    public Map<String, Integer> getCallsByOperation() {
+        Map<String, Integer> calls = new TreeMap<>();
+        callsByOperation.forEach((operation, count) -> calls.put(operation, count.get()));
+        return calls;
+    }
+}
@@ -0,0 +1,67 @@
+package com.detailing.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DynamoDbRequestStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDbRequestStatsFilter.class);
+
+    @Value("${dynamodb.instrumentation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${dynamodb.instrumentation.warn-round-trips:10}")
+    private int warnRoundTrips;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        DynamoDbRequestStats stats = DynamoDbRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DynamoDbRequestStats.end();
+            log(request, response, stats, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, DynamoDbRequestStats stats, long elapsedMs) {
+        int roundTrips = stats.getRoundTrips();
+        if (roundTrips > warnRoundTrips) {
+            logger.warn("{} {} -> {} in {}ms: {} DynamoDB round trips (threshold {}), rcu={}, wcu={}, calls={}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMs,
+                    roundTrips, warnRoundTrips, format(stats.getReadCapacityUnits()),
+                    format(stats.getWriteCapacityUnits()), stats.getCallsByOperation());
+        } else if (roundTrips > 0) {
+            logger.info("{} {} -> {} in {}ms: {} DynamoDB round trips, rcu={}, wcu={}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMs,
+                    roundTrips, format(stats.getReadCapacityUnits()), format(stats.getWriteCapacityUnits()));
+        } else {
+            logger.debug("{} {} -> {} in {}ms: no DynamoDB calls",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMs);
+        }
+    }
+
+    private static String format(double units) {
+        return String.format("%.1f", units);
+    }
+}
@@ -0,0 +1,73 @@
+package com.detailing.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${executor.email.pool-size:4}")
+    private int emailPoolSize;
+
+    @Value("${executor.email.queue-capacity:500}")
+    private int emailQueueCapacity;
+
+    @Value("${executor.email.concurrency-limit:32}")
+    private int emailConcurrencyLimit;
+
+    @Value("${availability.stream.max-subscribers:1000}")
+    private int streamMaxSubscribers;
+
+    @Value("${executor.summary.pool-size:2}")
+    private int summaryPoolSize;
+
+    @Bean(name = "emailExecutor")
+    public TaskExecutor emailExecutor() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("email-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(emailConcurrencyLimit);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("email-");
+        executor.setCorePoolSize(emailPoolSize);
+        executor.setMaxPoolSize(emailPoolSize);
+        executor.setQueueCapacity(emailQueueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean(name = "streamExecutor")
+    public TaskExecutor streamExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-");
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        executor.setConcurrencyLimit(streamMaxSubscribers);
+        return executor;
+    }
+
+    @Bean(name = "summaryExecutor")
+    public TaskExecutor summaryExecutor() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("summary-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(summaryPoolSize);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("summary-");
+        executor.setCorePoolSize(summaryPoolSize);
+        executor.setMaxPoolSize(summaryPoolSize);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -13,6 +13,8 @@ public class GmailConfig {
     private String refreshToken;
     private String fromEmail;
     private String fromName;
+    private String rootUrl;
+    private String tokenServerUri;
 
     public String getClientId() {
         return clientId;
@@ -61,4 +63,20 @@ public class GmailConfig {
     public void setFromName(String fromName) {
         this.fromName = fromName;
     }
-} 
+
+    public String getRootUrl() {
+        return rootUrl;
+    }
+
+    public void setRootUrl(String rootUrl) {
+        this.rootUrl = rootUrl;
+    }
+
+    public String getTokenServerUri() {
+        return tokenServerUri;
+    }
+
+    public void setTokenServerUri(String tokenServerUri) {
+        this.tokenServerUri = tokenServerUri;
+    }
+}
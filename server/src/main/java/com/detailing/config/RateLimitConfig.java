@@ -0,0 +1,101 @@
+package com.detailing.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitConfig {
+
+    private boolean enabled = false;
+    private boolean trustForwardedFor = false;
+    private int stripes = 16;
+    private int maxClientsPerStripe = 4096;
+    private Limit availability = new Limit(60, 2.0);
+    private Limit bookingCreate = new Limit(5, 0.1);
+    private Limit checkout = new Limit(10, 0.2);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isTrustForwardedFor() {
+        return trustForwardedFor;
+    }
+
+    public void setTrustForwardedFor(boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getMaxClientsPerStripe() {
+        return maxClientsPerStripe;
+    }
+
+    public void setMaxClientsPerStripe(int maxClientsPerStripe) {
+        this.maxClientsPerStripe = maxClientsPerStripe;
+    }
+
+    public Limit getAvailability() {
+        return availability;
+    }
+
+    public void setAvailability(Limit availability) {
+        this.availability = availability;
+    }
+
+    public Limit getBookingCreate() {
+        return bookingCreate;
+    }
+
+    public void setBookingCreate(Limit bookingCreate) {
+        this.bookingCreate = bookingCreate;
+    }
+
+    public Limit getCheckout() {
+        return checkout;
+    }
+
+    public void setCheckout(Limit checkout) {
+        this.checkout = checkout;
+    }
+
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Limit() {}
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.detailing.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimiter.EndpointClass endpointClass = classify(request);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientAddress = clientAddress(request);
+        long retryAfterNanos = rateLimiter.tryAcquire(endpointClass, clientAddress);
+        if (retryAfterNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+            logger.warn("Rate limit exceeded for {} on {} {}, retry after {}s",
+                    clientAddress, request.getMethod(), request.getRequestURI(), retryAfterSeconds);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Too many requests\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimiter.EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+
+        if (path.startsWith("/api/availability/")) {
+            return RateLimiter.EndpointClass.AVAILABILITY;
+        }
+        if ("POST".equals(method) && ("/api/bookings".equals(path) || "/api/bookings/".equals(path))) {
+            return RateLimiter.EndpointClass.BOOKING_CREATE;
+        }
+        if ("POST".equals(method) && "/api/stripe/create-checkout-session".equals(path)) {
+            return RateLimiter.EndpointClass.CHECKOUT;
+        }
+        return null;
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        if (rateLimiter.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String hop = forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+                if (!hop.isEmpty()) {
+                    return hop;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,142 @@
+package com.detailing.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RateLimiter {
+
+    public enum EndpointClass {
+        AVAILABILITY,
+        BOOKING_CREATE,
+        CHECKOUT
+    }
+
+    private final RateLimitConfig config;
+    private final List<ConcurrentHashMap<String, TokenBucket>> stripes;
+    private final Map<EndpointClass, RateLimitConfig.Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> allowedCounters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejectedCounters = new EnumMap<>(EndpointClass.class);
+
+    @Autowired
+    public RateLimiter(RateLimitConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        int stripeCount = Math.max(1, config.getStripes());
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+
+        limits.put(EndpointClass.AVAILABILITY, config.getAvailability());
+        limits.put(EndpointClass.BOOKING_CREATE, config.getBookingCreate());
+        limits.put(EndpointClass.CHECKOUT, config.getCheckout());
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String endpoint = endpointClass.name().toLowerCase();
+            allowedCounters.put(endpointClass, Counter.builder("ratelimit.requests")
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry));
+            rejectedCounters.put(endpointClass, Counter.builder("ratelimit.requests")
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("ratelimit.tracked.clients", this, RateLimiter::trackedClients)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public boolean isTrustForwardedFor() {
+        return config.isTrustForwardedFor();
+    }
+
+    public long tryAcquire(EndpointClass endpointClass, String clientAddress) {
+        String key = endpointClass.name() + '|' + clientAddress;
+        ConcurrentHashMap<String, TokenBucket> stripe = stripeFor(key);
+        if (stripe.size() >= config.getMaxClientsPerStripe()) {
+            evictIdle(stripe, System.nanoTime());
+        }
+
+        TokenBucket bucket = stripe.computeIfAbsent(key, k -> new TokenBucket(limits.get(endpointClass)));
+        long retryAfterNanos = bucket.tryAcquire(System.nanoTime());
+        if (retryAfterNanos > 0) {
+            rejectedCounters.get(endpointClass).increment();
+        } else {
+            allowedCounters.get(endpointClass).increment();
+        }
+        return retryAfterNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            evictIdle(stripe, now);
+        }
+    }
+
+    private void evictIdle(ConcurrentHashMap<String, TokenBucket> stripe, long now) {
+        stripe.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private ConcurrentHashMap<String, TokenBucket> stripeFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes.get(Math.floorMod(hash, stripes.size()));
+    }
+
+    private double trackedClients() {
+        long total = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+
+    private static final class TokenBucket {
+
+        private final long nanosPerToken;
+        private final long burstNanos;
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        TokenBucket(RateLimitConfig.Limit limit) {
+            this.nanosPerToken = (long) (1_000_000_000L / Math.max(limit.getRefillPerSecond(), 0.000001));
+            this.burstNanos = nanosPerToken * Math.max(1, limit.getCapacity());
+        }
+
+        long tryAcquire(long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                long next = base + nanosPerToken;
+                long excess = next - now - burstNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0L;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            long current = theoreticalArrival.get();
+            return current == Long.MIN_VALUE || current - now <= 0;
+        }
+    }
+}
@@ -4,24 +4,26 @@ import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.core.Authentication;
 import jakarta.servlet.http.HttpServletResponse;
@@ -29,9 +31,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -41,32 +41,62 @@ public class SecurityConfig {
     @Autowired
     private CognitoLogoutHandler cognitoLogoutHandler;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${frontend.url}")
     private String frontendUrl;
 
+    @Value("${jwt.cache.max-size:1000}")
+    private long jwtCacheMaxSize;
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
         http
+            .securityMatcher("/api/**")
             .sessionManagement(session -> session
-                .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED) 
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .securityContext(context -> context
+                .securityContextRepository(new RequestAttributeSecurityContextRepository())
             )
+            .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+            .addFilterAfter(new RateLimitFilter(rateLimiter), CorsFilter.class)
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/login/oauth2/**", "/oauth2/**").permitAll()
                 .requestMatchers("/api/admin/**").authenticated()
                 .requestMatchers("/api/auth/**").authenticated()
                 .requestMatchers("/api/gmail-auth/**").authenticated()
                 .requestMatchers("/api/availability/block-slot", "/api/availability/unblock-slot", 
                                "/api/availability/block-day", "/api/availability/unblock-day",
+                               "/api/availability/block-range", "/api/availability/unblock-range",
                                "/api/availability/cancel-booking").authenticated()
-                .requestMatchers("/api/bookings/**", "/api/stripe/**", "/api/availability/**").permitAll()
+                .requestMatchers("/api/bookings/**", "/api/stripe/**", "/api/availability/**", "/api/pricing/**").permitAll()
                 .anyRequest().permitAll()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
                 .jwt(jwt -> jwt.decoder(customJwtDecoder()))
             )
+            .csrf(csrf -> csrf.disable()) 
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()));
+        
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED) 
+            )
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers("/login/oauth2/**", "/oauth2/**").permitAll()
+                .anyRequest().permitAll()
+            )
             .oauth2Login(oauth2 -> oauth2
                 .successHandler((request, response, authentication) -> {
                     try {
@@ -109,7 +139,7 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Set-Cookie"));
+        configuration.setExposedHeaders(Arrays.asList("Set-Cookie", "ETag"));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -135,40 +165,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtDecoder customJwtDecoder() {
-        return token -> {
-            try {
-                SignedJWT signedJWT = SignedJWT.parse(token);
-                
-                MACVerifier verifier = new MACVerifier(jwtSecret.getBytes());
-                if (!signedJWT.verify(verifier)) {
-                    throw new JwtException("Invalid JWT signature");
-                }
-                
-                JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
-                Date expiration = claims.getExpirationTime();
-                if (expiration != null && expiration.before(new Date())) {
-                    throw new JwtException("JWT token has expired");
-                }
-                
-                Map<String, Object> headers = new HashMap<>();
-                headers.put("typ", "JWT");
-                headers.put("alg", "HS256");
-                
-                Map<String, Object> claimsMap = new HashMap<>();
-                claimsMap.put("sub", claims.getSubject());
-                claimsMap.put("username", claims.getClaim("username"));
-                claimsMap.put("email", claims.getClaim("email"));
-                claimsMap.put("phone_number", claims.getClaim("phone_number"));
-                claimsMap.put("exp", claims.getExpirationTime());
-                claimsMap.put("iat", claims.getIssueTime());
-                
-                return new Jwt(token, claims.getIssueTime().toInstant(), 
-                             claims.getExpirationTime().toInstant(), headers, claimsMap);
-                             
-            } catch (Exception e) {
-                throw new JwtException("Failed to decode JWT token: " + e.getMessage(), e);
-            }
-        };
+    public CachingJwtDecoder customJwtDecoder() {
+        return new CachingJwtDecoder(jwtSecret, jwtCacheMaxSize);
+    }
+
+    @Bean
+    public MeterBinder jwtDecoderCacheMetrics(CachingJwtDecoder customJwtDecoder) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, customJwtDecoder.getCache(), "jwtDecoder");
     }
 } 
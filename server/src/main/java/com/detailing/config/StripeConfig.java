@@ -3,6 +3,7 @@ package com.detailing.config;
 import com.stripe.Stripe;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 import jakarta.annotation.PostConstruct;
 
@@ -12,8 +13,14 @@ public class StripeConfig {
     @Value("${stripe.api.key}")
     private String stripeApiKey;
 
+    @Value("${stripe.api.base:}")
+    private String stripeApiBase;
+
     @PostConstruct
     public void init() {
         Stripe.apiKey = stripeApiKey;
+        if (StringUtils.hasText(stripeApiBase)) {
+            Stripe.overrideApiBase(stripeApiBase);
+        }
     }
 } 
@@ -1,10 +1,14 @@
 package com.detailing.controller;
 
+import com.detailing.model.AvailabilityRule;
 import com.detailing.model.Booking;
 import com.detailing.service.AdminService;
+import com.detailing.service.AvailabilityRuleService;
+import com.detailing.service.WeatherRescheduleService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,6 +16,8 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -22,10 +28,15 @@ public class AdminController {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
     private final AdminService adminService;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final WeatherRescheduleService weatherRescheduleService;
 
     @Autowired
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, AvailabilityRuleService availabilityRuleService,
+                           WeatherRescheduleService weatherRescheduleService) {
         this.adminService = adminService;
+        this.availabilityRuleService = availabilityRuleService;
+        this.weatherRescheduleService = weatherRescheduleService;
     }
 
     @GetMapping("/stats")
@@ -171,6 +182,183 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/day/{date}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> getDayView(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @AuthenticationPrincipal Jwt jwt) {
+        String username = getUsername(oauth2User, jwt);
+        logger.info("Received request for day view of {} from user: {}", date, username);
+        try {
+            Map<String, Object> dayView = adminService.getDayView(date);
+            return ResponseEntity.ok(dayView);
+        } catch (Exception e) {
+            logger.error("Error retrieving day view for {}", date, e);
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to retrieve day view",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
+    @PostMapping("/day/{date}/reschedule")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> rescheduleDay(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @AuthenticationPrincipal Jwt jwt) {
+        String username = getUsername(oauth2User, jwt);
+        logger.info("Received request to reschedule bookings off {} from user: {}", date, username);
+        try {
+            Map<String, Object> result = weatherRescheduleService.rescheduleDay(date);
+            if (result.containsKey("error")) {
+                return ResponseEntity.internalServerError().body(result);
+            }
+            logger.info("Successfully rescheduled bookings off {}", date);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to reschedule day",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (Exception e) {
+            logger.error("Error rescheduling bookings off {}", date, e);
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to reschedule day",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
+    @GetMapping("/availability-rules")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<AvailabilityRule>> getAvailabilityRules() {
+        return ResponseEntity.ok(availabilityRuleService.getRules());
+    }
+
+    @PostMapping("/availability-rules")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> createAvailabilityRule(
+            @RequestBody AvailabilityRule rule,
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @AuthenticationPrincipal Jwt jwt) {
+        String username = getUsername(oauth2User, jwt);
+        logger.info("Received request to create availability rule from user: {}", username);
+        try {
+            AvailabilityRule created = availabilityRuleService.createRule(rule);
+            logger.info("Successfully created availability rule: {}", created.getRuleId());
+            return ResponseEntity.ok(Map.of(
+                "message", "Availability rule created successfully",
+                "rule", created
+            ));
+        } catch (Exception e) {
+            logger.error("Error creating availability rule", e);
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to create availability rule",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    @PutMapping("/availability-rules/{ruleId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> updateAvailabilityRule(
+            @PathVariable String ruleId,
+            @RequestBody AvailabilityRule rule,
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @AuthenticationPrincipal Jwt jwt) {
+        String username = getUsername(oauth2User, jwt);
+        logger.info("Received request to update availability rule: {} from user: {}", ruleId, username);
+        try {
+            AvailabilityRule updated = availabilityRuleService.updateRule(ruleId, rule);
+            logger.info("Successfully updated availability rule: {}", ruleId);
+            return ResponseEntity.ok(Map.of(
+                "message", "Availability rule updated successfully",
+                "rule", updated
+            ));
+        } catch (Exception e) {
+            logger.error("Error updating availability rule: {}", ruleId, e);
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to update availability rule",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    @DeleteMapping("/availability-rules/{ruleId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> deleteAvailabilityRule(
+            @PathVariable String ruleId,
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @AuthenticationPrincipal Jwt jwt) {
+        String username = getUsername(oauth2User, jwt);
+        logger.info("Received request to delete availability rule: {} from user: {}", ruleId, username);
+        try {
+            availabilityRuleService.deleteRule(ruleId);
+            logger.info("Successfully deleted availability rule: {}", ruleId);
+            return ResponseEntity.ok(Map.of(
+                "message", "Availability rule deleted successfully",
+                "ruleId", ruleId
+            ));
+        } catch (Exception e) {
+            logger.error("Error deleting availability rule: {}", ruleId, e);
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to delete availability rule",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
+    @PostMapping("/day-summaries/rebuild")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> rebuildDaySummaries(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @AuthenticationPrincipal Jwt jwt) {
+        String username = getUsername(oauth2User, jwt);
+        logger.info("Received request to rebuild day summaries for {} from user: {}", month, username);
+        try {
+            Map<String, Object> result = adminService.rebuildDaySummaries(month);
+            logger.info("Successfully rebuilt day summaries: {}", result);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Error rebuilding day summaries for {}", month, e);
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to rebuild day summaries",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
+    @PostMapping("/catalog/reload")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> reloadServiceCatalog(
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @AuthenticationPrincipal Jwt jwt) {
+        String username = getUsername(oauth2User, jwt);
+        logger.info("Received request to reload service catalog from user: {}", username);
+        try {
+            Map<String, Object> result = adminService.reloadServiceCatalog();
+            logger.info("Successfully reloaded service catalog: {}", result);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Error reloading service catalog", e);
+            Map<String, Object> errorResponse = Map.of(
+                "error", "Failed to reload service catalog",
+                "message", e.getMessage()
+            );
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Map<String, Object>> getCurrentUser(
@@ -1,23 +1,39 @@
 package com.detailing.controller;
 
 import com.detailing.model.Availability;
+import com.detailing.model.SlotLookupResult;
 import com.detailing.model.Booking;
 import com.detailing.service.AvailabilityService;
 import com.detailing.service.AdminService;
+import com.detailing.service.AvailabilityStreamService;
+import com.detailing.service.DaySummaryService;
+import com.detailing.service.NextAvailabilityService;
+import com.detailing.service.SlotRecommendationService;
 import com.detailing.repository.BookingRepository;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import com.detailing.util.ETagUtil;
 import com.detailing.util.TimeSlotUtil;
 
 @RestController
@@ -29,35 +45,138 @@ public class AvailabilityController {
     private final AvailabilityService availabilityService;
     private final AdminService adminService;
     private final BookingRepository bookingRepository;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final DaySummaryService daySummaryService;
+    private final NextAvailabilityService nextAvailabilityService;
+    private final SlotRecommendationService slotRecommendationService;
 
     @Autowired
     public AvailabilityController(AvailabilityService availabilityService,
                                  AdminService adminService,
-                                 BookingRepository bookingRepository) {
+                                 BookingRepository bookingRepository,
+                                 AvailabilityStreamService availabilityStreamService,
+                                 DaySummaryService daySummaryService,
+                                 NextAvailabilityService nextAvailabilityService,
+                                 SlotRecommendationService slotRecommendationService) {
         this.availabilityService = availabilityService;
         this.adminService = adminService;
         this.bookingRepository = bookingRepository;
+        this.availabilityStreamService = availabilityStreamService;
+        this.daySummaryService = daySummaryService;
+        this.nextAvailabilityService = nextAvailabilityService;
+        this.slotRecommendationService = slotRecommendationService;
+    }
+
+    @GetMapping("/suggestions/{date}")
+    public ResponseEntity<?> getSlotSuggestions(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String serviceType,
+            @RequestParam(required = false) String excludeBookingId) {
+        try {
+            logger.info("Ranking start slots for date: {}, service: {}, excluding booking: {}",
+                    date, serviceType, excludeBookingId);
+            List<Map<String, Object>> suggestions =
+                    slotRecommendationService.rankStartSlots(date, serviceType, excludeBookingId);
+            return ResponseEntity.ok(Map.of("suggestions", suggestions));
+        } catch (Exception e) {
+            logger.error("Error ranking start slots for date {}: {}", date, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to rank available slots"));
+        }
+    }
+
+    @GetMapping("/next")
+    public ResponseEntity<?> getNextAvailable(
+            @RequestParam(required = false) String serviceType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
+            @RequestParam(defaultValue = "5") int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be at least 1"));
+        }
+        try {
+            LocalDateTime searchFrom = after != null ? after : LocalDateTime.now();
+            logger.info("Searching next {} available slots for service {} after {}", limit, serviceType, searchFrom);
+            List<Map<String, String>> slots = nextAvailabilityService.findNextAvailable(serviceType, searchFrom, limit);
+            return ResponseEntity.ok(Map.of("slots", slots));
+        } catch (Exception e) {
+            logger.error("Error searching next available slots for service {}: {}", serviceType, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to find next available slots"));
+        }
+    }
+
+    @GetMapping("/month/{month}")
+    public ResponseEntity<?> getMonthSummary(@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        try {
+            logger.info("Getting day summaries for month: {}", month);
+            return ResponseEntity.ok(Map.of(
+                    "month", month.toString(),
+                    "days", daySummaryService.getMonth(month)));
+        } catch (Exception e) {
+            logger.error("Error getting day summaries for month {}: {}", month, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to get month summary"));
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@RequestParam List<String> dates, HttpServletResponse response) {
+        List<String> normalized = new ArrayList<>();
+        try {
+            for (String date : dates) {
+                normalized.add(LocalDate.parse(date.trim()).toString());
+            }
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Dates must be ISO formatted (yyyy-MM-dd)");
+        }
+
+        try {
+            SseEmitter emitter = availabilityStreamService.subscribe(normalized.stream().distinct().toList());
+            response.setHeader("Cache-Control", "no-cache");
+            response.setHeader("X-Accel-Buffering", "no");
+            return emitter;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            logger.warn("Rejecting availability stream subscription: {}", e.getMessage());
+            response.setHeader("Retry-After", "30");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Availability stream is at capacity");
+        }
     }
 
     @GetMapping("/slots/{date}")
     public ResponseEntity<?> getAvailableSlots(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(required = false) String serviceType,
-            @RequestParam(required = false) String excludeBookingId) {
+            @RequestParam(required = false) String excludeBookingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            String etag = availabilityService.getSlotsETag(date, serviceType, excludeBookingId);
+            if (ETagUtil.matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+
             logger.info("Getting available slots for date: {}, service: {}, excluding booking: {}", 
                        date, serviceType, excludeBookingId);
 
-            if (availabilityService.isDayBlocked(date)) {
+            SlotLookupResult lookup = availabilityService.lookupStartSlots(date, serviceType, excludeBookingId);
+
+            if (lookup.isDayBlocked()) {
                 logger.info("Day {} is blocked entirely", date);
-                return ResponseEntity.ok(Map.of("availableSlots", List.of()));
+                return cacheable(etag).body(Map.of("availableSlots", List.of()));
             }
 
-            List<String> availableSlots = availabilityService.findStartSlots(date, serviceType, excludeBookingId);
+            if (lookup.hasPrices()) {
+                logger.info("Found {} available start slots with dynamic prices for date {} and service {}",
+                        lookup.getAvailableSlots().size(), date, serviceType);
+                return cacheable(etag).body(Map.of(
+                        "availableSlots", lookup.getAvailableSlots(),
+                        "slotPrices", lookup.getSlotPrices()));
+            }
 
             logger.info("Found {} available start slots for date {} and service {}",
-                    availableSlots.size(), date, serviceType);
-            return ResponseEntity.ok(Map.of("availableSlots", availableSlots));
+                    lookup.getAvailableSlots().size(), date, serviceType);
+            return cacheable(etag).body(Map.of("availableSlots", lookup.getAvailableSlots()));
 
         } catch (Exception e) {
             logger.error("Error getting available slots for date {}: {}", date, e.getMessage(), e);
@@ -68,11 +187,17 @@ public class AvailabilityController {
 
     @GetMapping("/{date}")
     public ResponseEntity<?> getAvailabilityForDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            String etag = availabilityService.getAvailabilityETag(date);
+            if (ETagUtil.matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+
             logger.info("Getting availability for date: {}", date);
             List<Availability> availability = availabilityService.getAvailabilityForDate(date);
-            return ResponseEntity.ok(availability);
+            return cacheable(etag).body(availability);
         } catch (Exception e) {
             logger.error("Error getting availability for date {}: {}", date, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -80,6 +205,14 @@ public class AvailabilityController {
         }
     }
 
+    private static ResponseEntity.BodyBuilder cacheable(String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache());
+    }
+
+    private static ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+    }
+
     @PostMapping("/block-day")
     public ResponseEntity<?> blockDay(@RequestBody Map<String, String> request) {
         try {
@@ -115,6 +248,67 @@ public class AvailabilityController {
         }
     }
 
+    @PostMapping("/block-range")
+    public ResponseEntity<?> blockRange(@RequestBody Map<String, Object> request) {
+        try {
+            LocalDate from = rangeDate(request, "from");
+            LocalDate to = rangeDate(request, "to");
+            List<String> slots = rangeSlots(request.get("slots"));
+            String reason = (String) request.get("reason");
+
+            logger.info("Blocking {} from {} to {} with reason: {}",
+                    slots == null ? "full days" : "slots " + slots, from, to, reason);
+            Map<String, List<String>> changed = availabilityService.blockRange(from, to, slots, reason);
+
+            return ResponseEntity.ok(Map.of("message", "Range blocked successfully", "dates", changed));
+        } catch (DateTimeParseException | IllegalArgumentException | ClassCastException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid range", "message", String.valueOf(e.getMessage())));
+        } catch (Exception e) {
+            logger.error("Error blocking range: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to block range"));
+        }
+    }
+
+    @PostMapping("/unblock-range")
+    public ResponseEntity<?> unblockRange(@RequestBody Map<String, Object> request) {
+        try {
+            LocalDate from = rangeDate(request, "from");
+            LocalDate to = rangeDate(request, "to");
+            List<String> slots = rangeSlots(request.get("slots"));
+
+            logger.info("Unblocking {} from {} to {}", slots == null ? "full days" : "slots " + slots, from, to);
+            Map<String, List<String>> changed = availabilityService.unblockRange(from, to, slots);
+
+            return ResponseEntity.ok(Map.of("message", "Range unblocked successfully", "dates", changed));
+        } catch (DateTimeParseException | IllegalArgumentException | ClassCastException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid range", "message", String.valueOf(e.getMessage())));
+        } catch (Exception e) {
+            logger.error("Error unblocking range: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to unblock range"));
+        }
+    }
+
+    private static LocalDate rangeDate(Map<String, Object> request, String field) {
+        Object value = request.get(field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return LocalDate.parse((String) value);
+    }
+
+    private static List<String> rangeSlots(Object slots) {
+        if (slots == null) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        for (Object slot : (List<?>) slots) {
+            result.add((String) slot);
+        }
+        return result.isEmpty() ? null : result;
+    }
+
     @PostMapping("/block-slot")
     public ResponseEntity<?> blockSlot(@RequestBody Map<String, String> request) {
         try {
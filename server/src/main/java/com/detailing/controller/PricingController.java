@@ -0,0 +1,63 @@
+package com.detailing.controller;
+
+import com.detailing.model.PriceQuote;
+import com.detailing.model.PriceQuoteRequest;
+import com.detailing.service.PricingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/pricing")
+@CrossOrigin(origins = "${frontend.url}")
+public class PricingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PricingController.class);
+    private final PricingService pricingService;
+    private final int maxCartsPerRequest;
+
+    @Autowired
+    public PricingController(PricingService pricingService,
+                             @Value("${pricing.quotes.max-carts:500}") int maxCartsPerRequest) {
+        this.pricingService = pricingService;
+        this.maxCartsPerRequest = maxCartsPerRequest;
+    }
+
+    @PostMapping("/quotes")
+    public ResponseEntity<?> getQuotes(@RequestBody(required = false) Map<String, List<PriceQuoteRequest>> request) {
+        try {
+            List<PriceQuoteRequest> carts = request != null ? request.get("carts") : null;
+            if (carts == null || carts.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "At least one cart is required"));
+            }
+            if (carts.size() > maxCartsPerRequest) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "At most " + maxCartsPerRequest + " carts can be quoted per request"));
+            }
+            if (carts.contains(null)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Carts must not be null"));
+            }
+
+            PricingService.PriceTable table = pricingService.getPriceTable();
+            List<PriceQuote> quotes = pricingService.quote(table, carts);
+
+            logger.info("Priced {} carts against catalog version {}", quotes.size(), table.getCatalogVersion());
+            return ResponseEntity.ok(Map.of(
+                    "catalogVersion", table.getCatalogVersion(),
+                    "quotes", quotes));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error pricing quotes: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to price quotes"));
+        }
+    }
+}
@@ -9,6 +9,8 @@ import com.stripe.model.Event;
 import com.stripe.model.checkout.Session;
 import com.stripe.net.Webhook;
 import com.stripe.param.checkout.SessionCreateParams;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +35,9 @@ public class StripeController {
     @Autowired
     private PricingService pricingService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Value("${stripe.webhook.secret}")
     private String webhookSecret;
 
@@ -51,7 +56,7 @@ public class StripeController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Booking not found"));
             }
 
-            int totalPriceCents = pricingService.calculateTotalPrice(booking.getServiceType(), booking.getAddons());
+            int totalPriceCents = pricingService.getBookingPriceCents(booking);
             logger.info("Calculated total price for booking {}: ${}", bookingId, totalPriceCents / 100.0);
 
             SessionCreateParams.Builder paramsBuilder = SessionCreateParams.builder()
@@ -162,8 +167,12 @@ public class StripeController {
 
     @PostMapping("/webhook")
     public ResponseEntity<String> handleWebhook(@RequestBody String payload, @RequestHeader("Stripe-Signature") String sigHeader) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String eventType = "unknown";
+        String outcome = "error";
         try {
             Event event = Webhook.constructEvent(payload, sigHeader, webhookSecret);
+            eventType = event.getType();
             logger.info("Received Stripe webhook event: {}", event.getType());
 
             switch (event.getType()) {
@@ -174,14 +183,25 @@ public class StripeController {
                     logger.info("Unhandled event type: {}", event.getType());
             }
 
+            outcome = "success";
             return ResponseEntity.ok("Success");
 
         } catch (SignatureVerificationException e) {
+            outcome = "invalid_signature";
             logger.error("Invalid signature in Stripe webhook: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid signature");
         } catch (Exception e) {
             logger.error("Error processing Stripe webhook: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Webhook error");
+        } finally {
+            sample.stop(Timer.builder("stripe.webhook")
+                    .tag("event", eventType)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            if (!"success".equals(outcome)) {
+                meterRegistry.counter("stripe.webhook.failures", "outcome", outcome).increment();
+            }
         }
     }
 
@@ -0,0 +1,44 @@
+package com.detailing.event;
+
+import java.time.Instant;
+import java.util.List;
+
+public class AvailabilityChangedEvent {
+
+    public enum ChangeType {
+        BOOKED,
+        CANCELED,
+        BLOCKED,
+        UNBLOCKED,
+        DAY_BLOCKED,
+        DAY_UNBLOCKED
+    }
+
+    private final String date;
+    private final ChangeType changeType;
+    private final List<String> slots;
+    private final Instant changedAt;
+
+    public AvailabilityChangedEvent(String date, ChangeType changeType, List<String> slots) {
+        this.date = date;
+        this.changeType = changeType;
+        this.slots = List.copyOf(slots);
+        this.changedAt = Instant.now();
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public List<String> getSlots() {
+        return slots;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.detailing.event;
+
+public class AvailabilityRulesChangedEvent {
+
+    private final int ruleCount;
+
+    public AvailabilityRulesChangedEvent(int ruleCount) {
+        this.ruleCount = ruleCount;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+}
@@ -0,0 +1,26 @@
+package com.detailing.event;
+
+public class ServiceCatalogChangedEvent {
+
+    private final long previousVersion;
+    private final long version;
+    private final boolean durationsChanged;
+
+    public ServiceCatalogChangedEvent(long previousVersion, long version, boolean durationsChanged) {
+        this.previousVersion = previousVersion;
+        this.version = version;
+        this.durationsChanged = durationsChanged;
+    }
+
+    public long getPreviousVersion() {
+        return previousVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isDurationsChanged() {
+        return durationsChanged;
+    }
+}
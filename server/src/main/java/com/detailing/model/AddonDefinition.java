@@ -0,0 +1,38 @@
+package com.detailing.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public final class AddonDefinition {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final double price;
+
+    @JsonCreator
+    public AddonDefinition(@JsonProperty("id") String id,
+                           @JsonProperty("name") String name,
+                           @JsonProperty("description") String description,
+                           @JsonProperty("price") double price) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+}
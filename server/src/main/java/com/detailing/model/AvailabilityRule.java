@@ -0,0 +1,84 @@
+package com.detailing.model;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+import java.util.List;
+
+@DynamoDbBean
+public class AvailabilityRule {
+
+    private String ruleId;
+    private List<String> daysOfWeek;
+    private List<String> slots;
+    private String startDate;
+    private String endDate;
+    private List<String> exceptDates;
+    private String reason;
+    private String createdAt;
+
+    @DynamoDbPartitionKey
+    public String getRuleId() {
+        return ruleId;
+    }
+
+    public void setRuleId(String ruleId) {
+        this.ruleId = ruleId;
+    }
+
+    public List<String> getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(List<String> daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public List<String> getSlots() {
+        return slots;
+    }
+
+    public void setSlots(List<String> slots) {
+        this.slots = slots;
+    }
+
+    public String getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(String startDate) {
+        this.startDate = startDate;
+    }
+
+    public String getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(String endDate) {
+        this.endDate = endDate;
+    }
+
+    public List<String> getExceptDates() {
+        return exceptDates;
+    }
+
+    public void setExceptDates(List<String> exceptDates) {
+        this.exceptDates = exceptDates;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,136 @@
+package com.detailing.model;
+
+import com.detailing.util.TimeSlotUtil;
+
+import java.util.List;
+
+public final class AvailabilitySnapshot {
+
+    private final String date;
+    private final boolean dayBlocked;
+    private final Availability.AvailabilityStatus[] slotStatuses;
+    private final String[] slotBookingIds;
+    private final int occupiedSlots;
+
+    private AvailabilitySnapshot(String date, boolean dayBlocked,
+                                 Availability.AvailabilityStatus[] slotStatuses, String[] slotBookingIds) {
+        this.date = date;
+        this.dayBlocked = dayBlocked;
+        this.slotStatuses = slotStatuses;
+        this.slotBookingIds = slotBookingIds;
+
+        int occupied = 0;
+        for (int i = 0; i < slotStatuses.length; i++) {
+            if (dayBlocked || !isOpen(slotStatuses[i])) {
+                occupied++;
+            }
+        }
+        this.occupiedSlots = occupied;
+    }
+
+    public static AvailabilitySnapshot of(String date, List<Availability> entries) {
+        int slotCount = TimeSlotUtil.WORKING_HOURS.size();
+        Availability.AvailabilityStatus[] statuses = new Availability.AvailabilityStatus[slotCount];
+        String[] bookingIds = new String[slotCount];
+        boolean dayBlocked = false;
+
+        for (Availability entry : entries) {
+            if (entry.isAllDay()) {
+                dayBlocked |= !entry.isAvailable();
+                continue;
+            }
+            int index = TimeSlotUtil.WORKING_HOURS.indexOf(entry.getSlot());
+            if (index >= 0) {
+                statuses[index] = entry.getStatus();
+                bookingIds[index] = entry.getBookingId();
+            }
+        }
+        return new AvailabilitySnapshot(date, dayBlocked, statuses, bookingIds);
+    }
+
+    public AvailabilitySnapshot withClosures(long closedSlotMask, boolean closedAllDay) {
+        if (closedSlotMask == 0L && !closedAllDay) {
+            return this;
+        }
+        Availability.AvailabilityStatus[] statuses = slotStatuses.clone();
+        for (int i = 0; i < statuses.length; i++) {
+            if ((closedSlotMask & (1L << i)) != 0 && isOpen(statuses[i])) {
+                statuses[i] = Availability.AvailabilityStatus.BLOCKED;
+            }
+        }
+        return new AvailabilitySnapshot(date, dayBlocked || closedAllDay, statuses, slotBookingIds);
+    }
+
+    public long bookedMask() {
+        long mask = 0L;
+        for (int i = 0; i < slotStatuses.length; i++) {
+            if (slotStatuses[i] == Availability.AvailabilityStatus.BOOKED) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean isOpen(Availability.AvailabilityStatus status) {
+        return status == null || status == Availability.AvailabilityStatus.AVAILABLE;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public boolean isDayBlocked() {
+        return dayBlocked;
+    }
+
+    public int getSlotCount() {
+        return slotStatuses.length;
+    }
+
+    public boolean isSlotFree(int index, String excludeBookingId) {
+        if (dayBlocked) {
+            return false;
+        }
+        Availability.AvailabilityStatus status = slotStatuses[index];
+        if (isOpen(status)) {
+            return true;
+        }
+        return status == Availability.AvailabilityStatus.BOOKED
+                && excludeBookingId != null
+                && excludeBookingId.equals(slotBookingIds[index]);
+    }
+
+    public long freeMask(String excludeBookingId) {
+        long mask = 0L;
+        for (int i = 0; i < slotStatuses.length; i++) {
+            if (isSlotFree(i, excludeBookingId)) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    public boolean fits(int startIndex, int slotsNeeded, String excludeBookingId) {
+        if (startIndex < 0 || startIndex + slotsNeeded > slotStatuses.length) {
+            return false;
+        }
+        for (int j = 0; j < slotsNeeded; j++) {
+            if (!isSlotFree(startIndex + j, excludeBookingId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    public int getFreeSlots() {
+        return slotStatuses.length - occupiedSlots;
+    }
+
+    public double getOccupancyRatio() {
+        return slotStatuses.length == 0 ? 1.0 : (double) occupiedSlots / slotStatuses.length;
+    }
+}
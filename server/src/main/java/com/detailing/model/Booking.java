@@ -27,6 +27,7 @@ public class Booking {
     private BookingStatus status;
     private String stripeCustomerId;
     private String stripeSessionId;
+    private Integer totalPriceCents;
     private Instant createdAt;
     private boolean hidden = false;
 
@@ -140,6 +141,14 @@ public class Booking {
         this.stripeSessionId = stripeSessionId;
     }
 
+    public Integer getTotalPriceCents() {
+        return totalPriceCents;
+    }
+
+    public void setTotalPriceCents(Integer totalPriceCents) {
+        this.totalPriceCents = totalPriceCents;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
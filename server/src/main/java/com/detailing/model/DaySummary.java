@@ -0,0 +1,146 @@
+package com.detailing.model;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+@DynamoDbBean
+public class DaySummary {
+
+    private String month;
+    private String date;
+    private int totalSlots;
+    private long freeMask;
+    private long bookedMask;
+    private boolean dayBlocked;
+    private String updatedAt;
+
+    public static DaySummary of(AvailabilitySnapshot snapshot, String updatedAt) {
+        DaySummary summary = new DaySummary();
+        summary.setMonth(snapshot.getDate().substring(0, 7));
+        summary.setDate(snapshot.getDate());
+        summary.setTotalSlots(snapshot.getSlotCount());
+        summary.setFreeMask(snapshot.freeMask(null));
+        summary.setBookedMask(snapshot.bookedMask());
+        summary.setDayBlocked(snapshot.isDayBlocked());
+        summary.setUpdatedAt(updatedAt);
+        return summary;
+    }
+
+    public DaySummary withClosures(long closedSlotMask, boolean closedAllDay) {
+        if (closedSlotMask == 0L && !closedAllDay) {
+            return this;
+        }
+        DaySummary closed = new DaySummary();
+        closed.setMonth(month);
+        closed.setDate(date);
+        closed.setTotalSlots(totalSlots);
+        closed.setFreeMask(closedAllDay ? 0L : freeMask & ~closedSlotMask);
+        closed.setBookedMask(bookedMask);
+        closed.setDayBlocked(dayBlocked || closedAllDay);
+        closed.setUpdatedAt(updatedAt);
+        return closed;
+    }
+
+    @DynamoDbPartitionKey
+    public String getMonth() {
+        return month;
+    }
+
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    @DynamoDbSortKey
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public int getTotalSlots() {
+        return totalSlots;
+    }
+
+    public void setTotalSlots(int totalSlots) {
+        this.totalSlots = totalSlots;
+    }
+
+    public long getFreeMask() {
+        return freeMask;
+    }
+
+    public void setFreeMask(long freeMask) {
+        this.freeMask = freeMask;
+    }
+
+    public long getBookedMask() {
+        return bookedMask;
+    }
+
+    public void setBookedMask(long bookedMask) {
+        this.bookedMask = bookedMask;
+    }
+
+    public boolean isDayBlocked() {
+        return dayBlocked;
+    }
+
+    public void setDayBlocked(boolean dayBlocked) {
+        this.dayBlocked = dayBlocked;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(String updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @DynamoDbIgnore
+    public int getFreeSlots() {
+        return Long.bitCount(freeMask);
+    }
+
+    @DynamoDbIgnore
+    public int getBookedSlots() {
+        return Long.bitCount(bookedMask);
+    }
+
+    @DynamoDbIgnore
+    public int getBlockedSlots() {
+        return totalSlots - getFreeSlots() - getBookedSlots();
+    }
+
+    @DynamoDbIgnore
+    public int getLongestFreeRun() {
+        int longest = 0;
+        long remaining = freeMask;
+        while (remaining != 0) {
+            remaining &= remaining << 1;
+            longest++;
+        }
+        return longest;
+    }
+
+    @DynamoDbIgnore
+    public DayStatus getStatus() {
+        if (dayBlocked) {
+            return DayStatus.BLOCKED;
+        }
+        if (getFreeSlots() == 0) {
+            return getBookedSlots() > 0 ? DayStatus.FULLY_BOOKED : DayStatus.BLOCKED;
+        }
+        return DayStatus.OPEN;
+    }
+
+    public enum DayStatus {
+        OPEN,
+        FULLY_BOOKED,
+        BLOCKED
+    }
+}
@@ -0,0 +1,69 @@
+package com.detailing.model;
+
+import java.util.List;
+
+public class PriceQuote {
+    private final String serviceType;
+    private final String vehicleType;
+    private final List<Line> lines;
+    private final int totalPriceCents;
+    private final boolean valid;
+
+    public PriceQuote(String serviceType, String vehicleType, List<Line> lines, int totalPriceCents, boolean valid) {
+        this.serviceType = serviceType;
+        this.vehicleType = vehicleType;
+        this.lines = lines;
+        this.totalPriceCents = totalPriceCents;
+        this.valid = valid;
+    }
+
+    public String getServiceType() {
+        return serviceType;
+    }
+
+    public String getVehicleType() {
+        return vehicleType;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public int getTotalPriceCents() {
+        return totalPriceCents;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public static class Line {
+        private final String type;
+        private final String id;
+        private final int priceCents;
+        private final boolean known;
+
+        public Line(String type, String id, int priceCents, boolean known) {
+            this.type = type;
+            this.id = id;
+            this.priceCents = priceCents;
+            this.known = known;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public int getPriceCents() {
+            return priceCents;
+        }
+
+        public boolean isKnown() {
+            return known;
+        }
+    }
+}
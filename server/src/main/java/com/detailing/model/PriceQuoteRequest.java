@@ -0,0 +1,33 @@
+package com.detailing.model;
+
+import java.util.List;
+
+public class PriceQuoteRequest {
+    private String serviceType;
+    private List<String> addons;
+    private String vehicleType;
+
+    public String getServiceType() {
+        return serviceType;
+    }
+
+    public void setServiceType(String serviceType) {
+        this.serviceType = serviceType;
+    }
+
+    public List<String> getAddons() {
+        return addons;
+    }
+
+    public void setAddons(List<String> addons) {
+        this.addons = addons;
+    }
+
+    public String getVehicleType() {
+        return vehicleType;
+    }
+
+    public void setVehicleType(String vehicleType) {
+        this.vehicleType = vehicleType;
+    }
+}
@@ -0,0 +1,79 @@
+package com.detailing.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ServiceCatalog {
+
+    private final long version;
+    private final List<ServiceDefinition> services;
+    private final Map<String, ServiceDefinition> servicesById;
+    private final List<AddonDefinition> addons;
+    private final Map<String, AddonDefinition> addonsById;
+
+    public ServiceCatalog(long version, List<ServiceDefinition> services, List<AddonDefinition> addons) {
+        List<ServiceDefinition> serviceList = new ArrayList<>(services.size());
+        Map<String, ServiceDefinition> serviceIndex = new HashMap<>();
+        for (ServiceDefinition service : services) {
+            if (serviceIndex.putIfAbsent(service.getId(), service) != null) {
+                throw new IllegalArgumentException("Duplicate service id in catalog: " + service.getId());
+            }
+            serviceList.add(service);
+        }
+
+        List<AddonDefinition> addonList = new ArrayList<>(addons.size());
+        Map<String, AddonDefinition> addonIndex = new HashMap<>();
+        for (AddonDefinition addon : addons) {
+            if (addonIndex.putIfAbsent(addon.getId(), addon) != null) {
+                throw new IllegalArgumentException("Duplicate addon id in catalog: " + addon.getId());
+            }
+            addonList.add(addon);
+        }
+
+        this.version = version;
+        this.services = Collections.unmodifiableList(serviceList);
+        this.servicesById = Collections.unmodifiableMap(serviceIndex);
+        this.addons = Collections.unmodifiableList(addonList);
+        this.addonsById = Collections.unmodifiableMap(addonIndex);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<ServiceDefinition> getServices() {
+        return services;
+    }
+
+    public List<AddonDefinition> getAddons() {
+        return addons;
+    }
+
+    public ServiceDefinition findService(String serviceId) {
+        return serviceId == null ? null : servicesById.get(serviceId);
+    }
+
+    public AddonDefinition findAddon(String addonId) {
+        return addonId == null ? null : addonsById.get(addonId);
+    }
+
+    public int size() {
+        return services.size();
+    }
+
+    public boolean hasSameDurations(ServiceCatalog other) {
+        if (other == null || other.servicesById.size() != servicesById.size()) {
+            return false;
+        }
+        for (ServiceDefinition service : services) {
+            ServiceDefinition previous = other.findService(service.getId());
+            if (previous == null || previous.getDurationMinutes() != service.getDurationMinutes()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,16 +1,23 @@
 package com.detailing.model;
 
-public class ServiceDefinition {
-    private String id;
-    private String name;
-    private String description;
-    private double price;
-    private int durationMinutes;
-    private int durationHours;
-
-    public ServiceDefinition() {}
-
-    public ServiceDefinition(String id, String name, String description, double price, int durationMinutes, int durationHours) {
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public final class ServiceDefinition {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final double price;
+    private final int durationMinutes;
+    private final int durationHours;
+
+    @JsonCreator
+    public ServiceDefinition(@JsonProperty("id") String id,
+                             @JsonProperty("name") String name,
+                             @JsonProperty("description") String description,
+                             @JsonProperty("price") double price,
+                             @JsonProperty("durationMinutes") int durationMinutes,
+                             @JsonProperty("durationHours") int durationHours) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -23,47 +30,23 @@ public class ServiceDefinition {
         return id;
     }
 
-    public void setId(String id) {
-        this.id = id;
-    }
-
     public String getName() {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     public String getDescription() {
         return description;
     }
 
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
     public double getPrice() {
         return price;
     }
 
-    public void setPrice(double price) {
-        this.price = price;
-    }
-
     public int getDurationMinutes() {
         return durationMinutes;
     }
 
-    public void setDurationMinutes(int durationMinutes) {
-        this.durationMinutes = durationMinutes;
-    }
-
     public int getDurationHours() {
         return durationHours;
     }
-
-    public void setDurationHours(int durationHours) {
-        this.durationHours = durationHours;
-    }
-} 
+}
@@ -0,0 +1,48 @@
+package com.detailing.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public final class SlotLookupResult {
+
+    private final boolean dayBlocked;
+    private final List<String> availableSlots;
+    private final Map<String, Integer> slotPrices;
+
+    private SlotLookupResult(boolean dayBlocked, List<String> availableSlots, Map<String, Integer> slotPrices) {
+        this.dayBlocked = dayBlocked;
+        this.availableSlots = availableSlots;
+        this.slotPrices = slotPrices;
+    }
+
+    public static SlotLookupResult blocked() {
+        return new SlotLookupResult(true, Collections.emptyList(), null);
+    }
+
+    public static SlotLookupResult of(List<String> availableSlots) {
+        return new SlotLookupResult(false, Collections.unmodifiableList(availableSlots), null);
+    }
+
+    public static SlotLookupResult withPrices(Map<String, Integer> slotPrices) {
+        return new SlotLookupResult(false,
+                List.copyOf(slotPrices.keySet()),
+                Collections.unmodifiableMap(slotPrices));
+    }
+
+    public boolean isDayBlocked() {
+        return dayBlocked;
+    }
+
+    public List<String> getAvailableSlots() {
+        return availableSlots;
+    }
+
+    public Map<String, Integer> getSlotPrices() {
+        return slotPrices;
+    }
+
+    public boolean hasPrices() {
+        return slotPrices != null;
+    }
+}
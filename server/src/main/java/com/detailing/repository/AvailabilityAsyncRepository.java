@@ -0,0 +1,51 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AvailabilityAsyncRepository {
+
+    CompletableFuture<Void> save(Availability availability);
+
+    CompletableFuture<Availability> findByDateAndSlot(String date, String slot);
+
+    CompletableFuture<List<Availability>> findByDate(String date);
+
+    CompletableFuture<Void> deleteByDateAndSlot(String date, String slot);
+
+    CompletableFuture<List<Availability>> findByBookingId(String bookingId);
+
+    default CompletableFuture<Void> batchWrite(Collection<Availability> puts, Collection<Availability> deletes) {
+        List<CompletableFuture<Void>> writes = new ArrayList<>(puts.size() + deletes.size());
+        for (Availability availability : puts) {
+            writes.add(save(availability));
+        }
+        for (Availability availability : deletes) {
+            writes.add(deleteByDateAndSlot(availability.getDate(), availability.getSlot()));
+        }
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture[0]));
+    }
+
+    default CompletableFuture<Map<String, List<Availability>>> findByDates(Collection<String> dates) {
+        List<String> orderedDates = new ArrayList<>(dates);
+        List<CompletableFuture<List<Availability>>> queries = new ArrayList<>(orderedDates.size());
+        for (String date : orderedDates) {
+            queries.add(findByDate(date));
+        }
+
+        return CompletableFuture.allOf(queries.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<String, List<Availability>> byDate = new LinkedHashMap<>();
+                    for (int i = 0; i < orderedDates.size(); i++) {
+                        byDate.put(orderedDates.get(i), queries.get(i).join());
+                    }
+                    return byDate;
+                });
+    }
+}
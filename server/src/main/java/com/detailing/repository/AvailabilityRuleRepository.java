@@ -0,0 +1,16 @@
+package com.detailing.repository;
+
+import com.detailing.model.AvailabilityRule;
+
+import java.util.List;
+
+public interface AvailabilityRuleRepository {
+
+    void save(AvailabilityRule rule);
+
+    AvailabilityRule findById(String ruleId);
+
+    List<AvailabilityRule> findAll();
+
+    void delete(String ruleId);
+}
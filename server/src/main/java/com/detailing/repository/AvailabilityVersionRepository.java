@@ -0,0 +1,10 @@
+package com.detailing.repository;
+
+import java.util.Collection;
+
+public interface AvailabilityVersionRepository {
+
+    long findVersion(String date);
+
+    void increment(Collection<String> dates);
+}
@@ -0,0 +1,52 @@
+package com.detailing.repository;
+
+import com.detailing.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public interface BookingAsyncRepository {
+
+    CompletableFuture<Booking> save(Booking booking);
+
+    CompletableFuture<Booking> findById(String bookingId);
+
+    CompletableFuture<List<Booking>> findAll();
+
+    CompletableFuture<Void> delete(String bookingId);
+
+    default CompletableFuture<List<Booking>> findByIds(Collection<String> bookingIds) {
+        List<CompletableFuture<Booking>> lookups = bookingIds.stream()
+                .distinct()
+                .map(this::findById)
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> lookups.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+    }
+
+    default CompletableFuture<List<Booking>> findByStatus(Booking.BookingStatus status) {
+        return findAll().thenApply(bookings -> bookings.stream()
+                .filter(booking -> status.equals(booking.getStatus()))
+                .collect(Collectors.toList()));
+    }
+
+    default CompletableFuture<Long> countByStatus(Booking.BookingStatus status) {
+        return findByStatus(status).thenApply(bookings -> (long) bookings.size());
+    }
+
+    default CompletableFuture<List<Booking>> findByAppointmentTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return findAll().thenApply(bookings -> bookings.stream()
+                .filter(booking -> booking.getAppointmentTime() != null &&
+                         !booking.getAppointmentTime().isBefore(start) &&
+                         booking.getAppointmentTime().isBefore(end))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+import com.detailing.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingMoveRepository {
+
+    boolean moveBooking(Booking booking, LocalDateTime expectedAppointmentTime,
+                        List<Availability> release, List<Availability> claim);
+}
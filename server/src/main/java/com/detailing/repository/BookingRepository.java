@@ -1,93 +1,71 @@
 package com.detailing.repository;
 
 import com.detailing.model.Booking;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Repository;
-import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
-import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
-import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 
-import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-@Repository
-public class BookingRepository {
+public interface BookingRepository {
 
-    private final DynamoDbEnhancedClient enhancedClient;
-    private final String tableName;
-    private DynamoDbTable<Booking> bookingTable;
+    Booking save(Booking booking);
 
-    @Autowired
-    public BookingRepository(DynamoDbEnhancedClient enhancedClient, 
-                             @Value("${dynamodb.table-name.bookings}") String tableName) {
-        this.enhancedClient = enhancedClient;
-        this.tableName = tableName;
-    }
+    Booking findById(String bookingId);
 
-    @PostConstruct
-    public void init() {
-        this.bookingTable = enhancedClient.table(tableName, TableSchema.fromBean(Booking.class));
-    }
+    List<Booking> findAll();
 
-    public Booking save(Booking booking) {
-        bookingTable.putItem(booking);
-        return booking;
-    }
+    void delete(String bookingId);
 
-    public Booking findById(String bookingId) {
-        return bookingTable.getItem(r -> r.key(k -> k.partitionValue(bookingId)));
-    }
-    
-    public List<Booking> findAll() {
-        return bookingTable.scan(ScanEnhancedRequest.builder().build())
-                .items()
-                .stream()
-                .collect(Collectors.toList());
-    }
-    
-    public List<Booking> findByStatus(Booking.BookingStatus status) {
-        
-        return bookingTable.scan(ScanEnhancedRequest.builder().build())
-                .items()
+    default List<Booking> findByStatus(Booking.BookingStatus status) {
+        return findAll()
                 .stream()
                 .filter(booking -> status.equals(booking.getStatus()))
                 .collect(Collectors.toList());
     }
-    
-    public long countByStatus(Booking.BookingStatus status) {
+
+    default long countByStatus(Booking.BookingStatus status) {
         return findByStatus(status).size();
     }
-    
-    public long countAll() {
+
+    default long countAll() {
         return findAll().size();
     }
-    
-    public void delete(String bookingId) {
-        bookingTable.deleteItem(r -> r.key(k -> k.partitionValue(bookingId)));
-    }
-    
-    public Booking findByBookingId(String bookingId) {
+
+    default Booking findByBookingId(String bookingId) {
         return findById(bookingId);
     }
-    
-    public List<Booking> findByAppointmentTimeBetween(java.time.LocalDateTime start, java.time.LocalDateTime end) {
-        return bookingTable.scan(ScanEnhancedRequest.builder().build())
-                .items()
+
+    default Map<String, Booking> findAllByIds(Collection<String> bookingIds) {
+        Map<String, Booking> bookings = new LinkedHashMap<>();
+        for (String bookingId : bookingIds) {
+            Booking booking = findById(bookingId);
+            if (booking != null) {
+                bookings.put(bookingId, booking);
+            }
+        }
+        return bookings;
+    }
+
+    default Map<String, Booking> findAllByIds(Collection<String> bookingIds, boolean consistentRead) {
+        return findAllByIds(bookingIds);
+    }
+
+    default List<Booking> findByAppointmentTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return findAll()
                 .stream()
                 .filter(booking -> booking.getAppointmentTime() != null && 
                          !booking.getAppointmentTime().isBefore(start) && 
                          booking.getAppointmentTime().isBefore(end))
                 .collect(Collectors.toList());
     }
-    
-    public List<Booking> findByStatusInAndAppointmentTimeBefore(List<Booking.BookingStatus> statuses, java.time.LocalDateTime dateTime) {
-        return bookingTable.scan(ScanEnhancedRequest.builder().build())
-                .items()
+
+    default List<Booking> findByStatusInAndAppointmentTimeBefore(List<Booking.BookingStatus> statuses, LocalDateTime dateTime) {
+        return findAll()
                 .stream()
                 .filter(booking -> statuses.contains(booking.getStatus()) && booking.getAppointmentTime() != null && booking.getAppointmentTime().isBefore(dateTime))
                 .collect(Collectors.toList());
     }
-} 
+}
@@ -0,0 +1,12 @@
+package com.detailing.repository;
+
+import com.detailing.model.DaySummary;
+
+import java.util.List;
+
+public interface DaySummaryRepository {
+
+    boolean saveIfNewer(DaySummary summary);
+
+    List<DaySummary> findByMonth(String month);
+}
@@ -0,0 +1,147 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbAvailabilityAsyncRepository implements AvailabilityAsyncRepository {
+
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+    private static final long MAX_BACKOFF_MS = 2000;
+
+    private final DynamoDbEnhancedAsyncClient enhancedClient;
+    private final DynamoDbAsyncTable<Availability> availabilityTable;
+    private final int batchMaxAttempts;
+    private final long batchBaseBackoffMs;
+
+    @Autowired
+    public DynamoDbAvailabilityAsyncRepository(DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+                                               @Value("${dynamodb.batch.max-attempts:8}") int batchMaxAttempts,
+                                               @Value("${dynamodb.batch.base-backoff-ms:50}") long batchBaseBackoffMs) {
+        this.enhancedClient = dynamoDbEnhancedAsyncClient;
+        this.availabilityTable = dynamoDbEnhancedAsyncClient.table("availability", TableSchema.fromBean(Availability.class));
+        this.batchMaxAttempts = batchMaxAttempts;
+        this.batchBaseBackoffMs = batchBaseBackoffMs;
+    }
+
+    @Override
+    public CompletableFuture<Void> save(Availability availability) {
+        return availabilityTable.putItem(availability);
+    }
+
+    @Override
+    public CompletableFuture<Availability> findByDateAndSlot(String date, String slot) {
+        Key key = Key.builder()
+                .partitionValue(date)
+                .sortValue(slot)
+                .build();
+        return availabilityTable.getItem(key);
+    }
+
+    @Override
+    public CompletableFuture<List<Availability>> findByDate(String date) {
+        QueryConditional queryConditional = QueryConditional.keyEqualTo(
+                Key.builder().partitionValue(date).build()
+        );
+
+        QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
+                .queryConditional(queryConditional)
+                .build();
+
+        return collect(availabilityTable.query(queryRequest).items());
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByDateAndSlot(String date, String slot) {
+        Key key = Key.builder()
+                .partitionValue(date)
+                .sortValue(slot)
+                .build();
+        return availabilityTable.deleteItem(key).thenApply(deleted -> null);
+    }
+
+    @Override
+    public CompletableFuture<List<Availability>> findByBookingId(String bookingId) {
+        return collect(availabilityTable.scan().items()
+                .filter(availability -> bookingId.equals(availability.getBookingId())));
+    }
+
+    @Override
+    public CompletableFuture<Void> batchWrite(Collection<Availability> puts, Collection<Availability> deletes) {
+        List<Availability> putItems = new ArrayList<>(puts);
+        List<Key> deleteKeys = new ArrayList<>(deletes.size());
+        for (Availability availability : deletes) {
+            deleteKeys.add(Key.builder()
+                    .partitionValue(availability.getDate())
+                    .sortValue(availability.getSlot())
+                    .build());
+        }
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        int total = putItems.size() + deleteKeys.size();
+        for (int from = 0; from < total; from += MAX_BATCH_WRITE_ITEMS) {
+            int to = Math.min(from + MAX_BATCH_WRITE_ITEMS, total);
+            List<Availability> chunkPuts = new ArrayList<>();
+            List<Key> chunkDeletes = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (i < putItems.size()) {
+                    chunkPuts.add(putItems.get(i));
+                } else {
+                    chunkDeletes.add(deleteKeys.get(i - putItems.size()));
+                }
+            }
+            chunks.add(writeChunk(chunkPuts, chunkDeletes, 1));
+        }
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<Void> writeChunk(List<Availability> puts, List<Key> deletes, int attempt) {
+        WriteBatch.Builder<Availability> batch = WriteBatch.builder(Availability.class).mappedTableResource(availabilityTable);
+        puts.forEach(batch::addPutItem);
+        deletes.forEach(batch::addDeleteItem);
+
+        return enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder().writeBatches(batch.build()).build())
+                .thenCompose(result -> {
+                    List<Availability> unprocessedPuts = result.unprocessedPutItemsForTable(availabilityTable);
+                    List<Key> unprocessedDeletes = result.unprocessedDeleteItemsForTable(availabilityTable);
+                    if (unprocessedPuts.isEmpty() && unprocessedDeletes.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    if (attempt >= batchMaxAttempts) {
+                        return CompletableFuture.failedFuture(new IllegalStateException(
+                                (unprocessedPuts.size() + unprocessedDeletes.size())
+                                        + " availability writes still unprocessed after " + attempt + " attempts"));
+                    }
+                    long backoff = Math.min(MAX_BACKOFF_MS, batchBaseBackoffMs << (attempt - 1));
+                    long delay = ThreadLocalRandom.current().nextLong(backoff + 1);
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> writeChunk(unprocessedPuts, unprocessedDeletes, attempt + 1));
+                });
+    }
+
+    static <T> CompletableFuture<List<T>> collect(SdkPublisher<T> publisher) {
+        List<T> items = new ArrayList<>();
+        return publisher.subscribe(items::add).thenApply(done -> items);
+    }
+}
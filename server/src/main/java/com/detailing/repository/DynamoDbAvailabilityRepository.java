@@ -0,0 +1,81 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbAvailabilityRepository implements AvailabilityRepository {
+
+    private final DynamoDbTable<Availability> availabilityTable;
+
+    @Autowired
+    public DynamoDbAvailabilityRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient) {
+        this.availabilityTable = dynamoDbEnhancedClient.table("availability", TableSchema.fromBean(Availability.class));
+    }
+
+    @Override
+    public void save(Availability availability) {
+        availabilityTable.putItem(availability);
+    }
+
+    @Override
+    public Availability findByDateAndSlot(String date, String slot) {
+        Key key = Key.builder()
+                .partitionValue(date)
+                .sortValue(slot)
+                .build();
+        return availabilityTable.getItem(key);
+    }
+
+    @Override
+    public List<Availability> findByDate(String date) {
+        return findByDate(date, false);
+    }
+
+    @Override
+    public List<Availability> findByDate(String date, boolean consistentRead) {
+        QueryConditional queryConditional = QueryConditional.keyEqualTo(
+                Key.builder().partitionValue(date).build()
+        );
+
+        QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
+                .queryConditional(queryConditional)
+                .consistentRead(consistentRead)
+                .build();
+
+        return availabilityTable.query(queryRequest)
+                .items()
+                .stream()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteByDateAndSlot(String date, String slot) {
+        Key key = Key.builder()
+                .partitionValue(date)
+                .sortValue(slot)
+                .build();
+        availabilityTable.deleteItem(key);
+    }
+
+    @Override
+    public List<Availability> findByBookingId(String bookingId) {
+        return availabilityTable.scan()
+                .items()
+                .stream()
+                .filter(availability -> bookingId.equals(availability.getBookingId()))
+                .collect(Collectors.toList());
+    }
+} 
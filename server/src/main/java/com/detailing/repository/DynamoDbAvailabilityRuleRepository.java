@@ -0,0 +1,49 @@
+package com.detailing.repository;
+
+import com.detailing.model.AvailabilityRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbAvailabilityRuleRepository implements AvailabilityRuleRepository {
+
+    private final DynamoDbTable<AvailabilityRule> ruleTable;
+
+    @Autowired
+    public DynamoDbAvailabilityRuleRepository(DynamoDbEnhancedClient enhancedClient,
+                                              @Value("${dynamodb.table-name.availability-rules:availability-rules}") String tableName) {
+        this.ruleTable = enhancedClient.table(tableName, TableSchema.fromBean(AvailabilityRule.class));
+    }
+
+    @Override
+    public void save(AvailabilityRule rule) {
+        ruleTable.putItem(rule);
+    }
+
+    @Override
+    public AvailabilityRule findById(String ruleId) {
+        return ruleTable.getItem(r -> r.key(k -> k.partitionValue(ruleId)));
+    }
+
+    @Override
+    public List<AvailabilityRule> findAll() {
+        return ruleTable.scan(r -> r.consistentRead(true))
+                .items()
+                .stream()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void delete(String ruleId) {
+        ruleTable.deleteItem(r -> r.key(k -> k.partitionValue(ruleId)));
+    }
+}
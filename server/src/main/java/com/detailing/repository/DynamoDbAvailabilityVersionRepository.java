@@ -0,0 +1,57 @@
+package com.detailing.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbAvailabilityVersionRepository implements AvailabilityVersionRepository {
+
+    private static final AttributeValue ONE = AttributeValue.builder().n("1").build();
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+
+    @Autowired
+    public DynamoDbAvailabilityVersionRepository(DynamoDbClient dynamoDbClient,
+                                                 @Value("${dynamodb.table-name.availability-versions:availability-versions}") String tableName) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public long findVersion(String date) {
+        GetItemResponse response = dynamoDbClient.getItem(r -> r
+                .tableName(tableName)
+                .key(key(date))
+                .consistentRead(true)
+                .projectionExpression("#version")
+                .expressionAttributeNames(Map.of("#version", "version")));
+        AttributeValue version = response.hasItem() ? response.item().get("version") : null;
+        return version != null ? Long.parseLong(version.n()) : 0L;
+    }
+
+    @Override
+    public void increment(Collection<String> dates) {
+        for (String date : dates) {
+            dynamoDbClient.updateItem(r -> r
+                    .tableName(tableName)
+                    .key(key(date))
+                    .updateExpression("ADD #version :one")
+                    .expressionAttributeNames(Map.of("#version", "version"))
+                    .expressionAttributeValues(Map.of(":one", ONE)));
+        }
+    }
+
+    private static Map<String, AttributeValue> key(String date) {
+        return Map.of("date", AttributeValue.builder().s(date).build());
+    }
+}
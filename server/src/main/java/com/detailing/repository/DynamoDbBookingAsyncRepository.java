@@ -0,0 +1,47 @@
+package com.detailing.repository;
+
+import com.detailing.model.Booking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbBookingAsyncRepository implements BookingAsyncRepository {
+
+    private final DynamoDbAsyncTable<Booking> bookingTable;
+
+    @Autowired
+    public DynamoDbBookingAsyncRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient,
+                                          @Value("${dynamodb.table-name.bookings}") String tableName) {
+        this.bookingTable = enhancedAsyncClient.table(tableName, TableSchema.fromBean(Booking.class));
+    }
+
+    @Override
+    public CompletableFuture<Booking> save(Booking booking) {
+        return bookingTable.putItem(booking).thenApply(done -> booking);
+    }
+
+    @Override
+    public CompletableFuture<Booking> findById(String bookingId) {
+        return bookingTable.getItem(r -> r.key(k -> k.partitionValue(bookingId)));
+    }
+
+    @Override
+    public CompletableFuture<List<Booking>> findAll() {
+        return DynamoDbAvailabilityAsyncRepository.collect(bookingTable.scan(ScanEnhancedRequest.builder().build()).items());
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String bookingId) {
+        return bookingTable.deleteItem(r -> r.key(k -> k.partitionValue(bookingId))).thenApply(deleted -> null);
+    }
+}
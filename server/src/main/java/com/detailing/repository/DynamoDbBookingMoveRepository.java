@@ -0,0 +1,113 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+import com.detailing.model.Booking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbBookingMoveRepository implements BookingMoveRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDbBookingMoveRepository.class);
+    private static final int MAX_TRANSACT_ITEMS = 100;
+    private static final String AVAILABILITY_TABLE = "availability";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final TableSchema<Booking> bookingSchema = TableSchema.fromBean(Booking.class);
+    private final TableSchema<Availability> availabilitySchema = TableSchema.fromBean(Availability.class);
+    private final String bookingTableName;
+
+    @Autowired
+    public DynamoDbBookingMoveRepository(DynamoDbClient dynamoDbClient,
+                                         @Value("${dynamodb.table-name.bookings}") String bookingTableName) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.bookingTableName = bookingTableName;
+    }
+
+    @Override
+    public boolean moveBooking(Booking booking, LocalDateTime expectedAppointmentTime,
+                               List<Availability> release, List<Availability> claim) {
+        if (release.size() + claim.size() + 1 > MAX_TRANSACT_ITEMS) {
+            throw new IllegalArgumentException("Booking " + booking.getBookingId() + " spans too many slots to move atomically");
+        }
+
+        List<TransactWriteItem> items = new ArrayList<>(release.size() + claim.size() + 1);
+        for (Availability slot : claim) {
+            items.add(TransactWriteItem.builder().put(Put.builder()
+                    .tableName(AVAILABILITY_TABLE)
+                    .item(availabilitySchema.itemToMap(slot, true))
+                    .conditionExpression("attribute_not_exists(#slot)")
+                    .expressionAttributeNames(Map.of("#slot", "slot"))
+                    .build()).build());
+        }
+        for (Availability slot : release) {
+            items.add(TransactWriteItem.builder().delete(Delete.builder()
+                    .tableName(AVAILABILITY_TABLE)
+                    .key(Map.of("date", string(slot.getDate()), "slot", string(slot.getSlot())))
+                    .conditionExpression("#bookingId = :bookingId")
+                    .expressionAttributeNames(Map.of("#bookingId", "booking_id"))
+                    .expressionAttributeValues(Map.of(":bookingId", string(booking.getBookingId())))
+                    .build()).build());
+        }
+        items.add(TransactWriteItem.builder().update(Update.builder()
+                .tableName(bookingTableName)
+                .key(Map.of("booking_id", string(booking.getBookingId())))
+                .updateExpression("SET #appointmentTime = :appointmentTime")
+                .conditionExpression("#appointmentTime = :expected AND #status IN (:confirmed, :pending)")
+                .expressionAttributeNames(Map.of("#appointmentTime", "appointmentTime", "#status", "status"))
+                .expressionAttributeValues(Map.of(
+                        ":appointmentTime", bookingSchema.attributeValue(booking, "appointmentTime"),
+                        ":expected", appointmentTime(expectedAppointmentTime),
+                        ":confirmed", status(Booking.BookingStatus.CONFIRMED),
+                        ":pending", status(Booking.BookingStatus.PENDING_PAYMENT)))
+                .build()).build());
+
+        try {
+            dynamoDbClient.transactWriteItems(r -> r.transactItems(items));
+            return true;
+        } catch (TransactionCanceledException e) {
+            if (e.hasCancellationReasons() && e.cancellationReasons().stream()
+                    .map(CancellationReason::code)
+                    .anyMatch("ConditionalCheckFailed"::equals)) {
+                logger.info("Move of booking {} lost a conditional check: {}", booking.getBookingId(), e.getMessage());
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private AttributeValue appointmentTime(LocalDateTime time) {
+        Booking booking = new Booking();
+        booking.setAppointmentTime(time);
+        return bookingSchema.attributeValue(booking, "appointmentTime");
+    }
+
+    private AttributeValue status(Booking.BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setStatus(status);
+        return bookingSchema.attributeValue(booking, "status");
+    }
+
+    private static AttributeValue string(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+}
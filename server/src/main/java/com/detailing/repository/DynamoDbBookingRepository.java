@@ -0,0 +1,95 @@
+package com.detailing.repository;
+
+import com.detailing.model.Booking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbBookingRepository implements BookingRepository {
+
+    private static final int MAX_BATCH_GET_KEYS = 100;
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final String tableName;
+    private DynamoDbTable<Booking> bookingTable;
+
+    @Autowired
+    public DynamoDbBookingRepository(DynamoDbEnhancedClient enhancedClient, 
+                                     @Value("${dynamodb.table-name.bookings}") String tableName) {
+        this.enhancedClient = enhancedClient;
+        this.tableName = tableName;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.bookingTable = enhancedClient.table(tableName, TableSchema.fromBean(Booking.class));
+    }
+
+    @Override
+    public Booking save(Booking booking) {
+        bookingTable.putItem(booking);
+        return booking;
+    }
+
+    @Override
+    public Booking findById(String bookingId) {
+        return bookingTable.getItem(r -> r.key(k -> k.partitionValue(bookingId)));
+    }
+    
+    @Override
+    public List<Booking> findAll() {
+        return bookingTable.scan(ScanEnhancedRequest.builder().build())
+                .items()
+                .stream()
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public Map<String, Booking> findAllByIds(Collection<String> bookingIds) {
+        return findAllByIds(bookingIds, false);
+    }
+
+    @Override
+    public Map<String, Booking> findAllByIds(Collection<String> bookingIds, boolean consistentRead) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(bookingIds));
+        Map<String, Booking> bookings = new LinkedHashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_GET_KEYS) {
+            ReadBatch.Builder<Booking> batch = ReadBatch.builder(Booking.class).mappedTableResource(bookingTable);
+            for (String bookingId : ids.subList(from, Math.min(from + MAX_BATCH_GET_KEYS, ids.size()))) {
+                batch.addGetItem(GetItemEnhancedRequest.builder()
+                        .key(Key.builder().partitionValue(bookingId).build())
+                        .consistentRead(consistentRead)
+                        .build());
+            }
+            enhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder().readBatches(batch.build()).build())
+                    .resultsForTable(bookingTable)
+                    .forEach(booking -> bookings.put(booking.getBookingId(), booking));
+        }
+        return bookings;
+    }
+
+    @Override
+    public void delete(String bookingId) {
+        bookingTable.deleteItem(r -> r.key(k -> k.partitionValue(bookingId)));
+    }
+}
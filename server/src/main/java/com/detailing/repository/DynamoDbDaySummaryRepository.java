@@ -0,0 +1,65 @@
+package com.detailing.repository;
+
+import com.detailing.model.DaySummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("!in-memory")
+public class DynamoDbDaySummaryRepository implements DaySummaryRepository {
+
+    private final DynamoDbTable<DaySummary> summaryTable;
+
+    @Autowired
+    public DynamoDbDaySummaryRepository(DynamoDbEnhancedClient enhancedClient,
+                                        @Value("${dynamodb.table-name.day-summaries:day-summaries}") String tableName) {
+        this.summaryTable = enhancedClient.table(tableName, TableSchema.fromBean(DaySummary.class));
+    }
+
+    @Override
+    public boolean saveIfNewer(DaySummary summary) {
+        Expression olderOrMissing = Expression.builder()
+                .expression("attribute_not_exists(#date) OR #updatedAt < :updatedAt")
+                .expressionNames(Map.of("#date", "date", "#updatedAt", "updatedAt"))
+                .expressionValues(Map.of(":updatedAt", AttributeValue.builder().s(summary.getUpdatedAt()).build()))
+                .build();
+        try {
+            summaryTable.putItem(PutItemEnhancedRequest.builder(DaySummary.class)
+                    .item(summary)
+                    .conditionExpression(olderOrMissing)
+                    .build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public List<DaySummary> findByMonth(String month) {
+        QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(month).build()))
+                .build();
+
+        return summaryTable.query(queryRequest)
+                .items()
+                .stream()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,48 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryAvailabilityAsyncRepository implements AvailabilityAsyncRepository {
+
+    private final AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    public InMemoryAvailabilityAsyncRepository(AvailabilityRepository availabilityRepository) {
+        this.availabilityRepository = availabilityRepository;
+    }
+
+    @Override
+    public CompletableFuture<Void> save(Availability availability) {
+        availabilityRepository.save(availability);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Availability> findByDateAndSlot(String date, String slot) {
+        return CompletableFuture.completedFuture(availabilityRepository.findByDateAndSlot(date, slot));
+    }
+
+    @Override
+    public CompletableFuture<List<Availability>> findByDate(String date) {
+        return CompletableFuture.completedFuture(availabilityRepository.findByDate(date));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByDateAndSlot(String date, String slot) {
+        availabilityRepository.deleteByDateAndSlot(date, slot);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<List<Availability>> findByBookingId(String bookingId) {
+        return CompletableFuture.completedFuture(availabilityRepository.findByBookingId(bookingId));
+    }
+}
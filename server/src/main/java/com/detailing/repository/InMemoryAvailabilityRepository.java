@@ -0,0 +1,83 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryAvailabilityRepository implements AvailabilityRepository {
+
+    private final ConcurrentNavigableMap<String, ConcurrentNavigableMap<String, Availability>> table =
+            new ConcurrentSkipListMap<>();
+
+    @Override
+    public void save(Availability availability) {
+        table.computeIfAbsent(availability.getDate(), date -> new ConcurrentSkipListMap<>())
+                .put(availability.getSlot(), copy(availability));
+    }
+
+    @Override
+    public Availability findByDateAndSlot(String date, String slot) {
+        ConcurrentNavigableMap<String, Availability> partition = table.get(date);
+        if (partition == null) {
+            return null;
+        }
+        return copy(partition.get(slot));
+    }
+
+    @Override
+    public List<Availability> findByDate(String date) {
+        ConcurrentNavigableMap<String, Availability> partition = table.get(date);
+        List<Availability> items = new ArrayList<>();
+        if (partition != null) {
+            for (Availability availability : partition.values()) {
+                items.add(copy(availability));
+            }
+        }
+        return items;
+    }
+
+    @Override
+    public void deleteByDateAndSlot(String date, String slot) {
+        ConcurrentNavigableMap<String, Availability> partition = table.get(date);
+        if (partition != null) {
+            partition.remove(slot);
+        }
+    }
+
+    @Override
+    public List<Availability> findByBookingId(String bookingId) {
+        List<Availability> items = new ArrayList<>();
+        for (ConcurrentNavigableMap<String, Availability> partition : table.values()) {
+            for (Availability availability : partition.values()) {
+                if (bookingId.equals(availability.getBookingId())) {
+                    items.add(copy(availability));
+                }
+            }
+        }
+        return items;
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    private static Availability copy(Availability source) {
+        if (source == null) {
+            return null;
+        }
+        Availability copy = new Availability();
+        copy.setDate(source.getDate());
+        copy.setSlot(source.getSlot());
+        copy.setStatus(source.getStatus());
+        copy.setReason(source.getReason());
+        copy.setBookingId(source.getBookingId());
+        return copy;
+    }
+}
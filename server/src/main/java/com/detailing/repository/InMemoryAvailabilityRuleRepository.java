@@ -0,0 +1,61 @@
+package com.detailing.repository;
+
+import com.detailing.model.AvailabilityRule;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryAvailabilityRuleRepository implements AvailabilityRuleRepository {
+
+    private final ConcurrentNavigableMap<String, AvailabilityRule> table = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void save(AvailabilityRule rule) {
+        table.put(rule.getRuleId(), copy(rule));
+    }
+
+    @Override
+    public AvailabilityRule findById(String ruleId) {
+        return copy(table.get(ruleId));
+    }
+
+    @Override
+    public List<AvailabilityRule> findAll() {
+        List<AvailabilityRule> items = new ArrayList<>(table.size());
+        for (AvailabilityRule rule : table.values()) {
+            items.add(copy(rule));
+        }
+        return items;
+    }
+
+    @Override
+    public void delete(String ruleId) {
+        table.remove(ruleId);
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    private static AvailabilityRule copy(AvailabilityRule source) {
+        if (source == null) {
+            return null;
+        }
+        AvailabilityRule copy = new AvailabilityRule();
+        copy.setRuleId(source.getRuleId());
+        copy.setDaysOfWeek(source.getDaysOfWeek() != null ? new ArrayList<>(source.getDaysOfWeek()) : null);
+        copy.setSlots(source.getSlots() != null ? new ArrayList<>(source.getSlots()) : null);
+        copy.setStartDate(source.getStartDate());
+        copy.setEndDate(source.getEndDate());
+        copy.setExceptDates(source.getExceptDates() != null ? new ArrayList<>(source.getExceptDates()) : null);
+        copy.setReason(source.getReason());
+        copy.setCreatedAt(source.getCreatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,31 @@
+package com.detailing.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryAvailabilityVersionRepository implements AvailabilityVersionRepository {
+
+    private final ConcurrentMap<String, Long> table = new ConcurrentHashMap<>();
+
+    @Override
+    public long findVersion(String date) {
+        return table.getOrDefault(date, 0L);
+    }
+
+    @Override
+    public void increment(Collection<String> dates) {
+        for (String date : dates) {
+            table.merge(date, 1L, Long::sum);
+        }
+    }
+
+    public void clear() {
+        table.clear();
+    }
+}
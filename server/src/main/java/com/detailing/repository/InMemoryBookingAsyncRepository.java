@@ -0,0 +1,42 @@
+package com.detailing.repository;
+
+import com.detailing.model.Booking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryBookingAsyncRepository implements BookingAsyncRepository {
+
+    private final BookingRepository bookingRepository;
+
+    @Autowired
+    public InMemoryBookingAsyncRepository(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    public CompletableFuture<Booking> save(Booking booking) {
+        return CompletableFuture.completedFuture(bookingRepository.save(booking));
+    }
+
+    @Override
+    public CompletableFuture<Booking> findById(String bookingId) {
+        return CompletableFuture.completedFuture(bookingRepository.findById(bookingId));
+    }
+
+    @Override
+    public CompletableFuture<List<Booking>> findAll() {
+        return CompletableFuture.completedFuture(bookingRepository.findAll());
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String bookingId) {
+        bookingRepository.delete(bookingId);
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.detailing.repository;
+
+import com.detailing.model.Availability;
+import com.detailing.model.Booking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryBookingMoveRepository implements BookingMoveRepository {
+
+    private final BookingRepository bookingRepository;
+    private final AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    public InMemoryBookingMoveRepository(BookingRepository bookingRepository,
+                                         AvailabilityRepository availabilityRepository) {
+        this.bookingRepository = bookingRepository;
+        this.availabilityRepository = availabilityRepository;
+    }
+
+    @Override
+    public synchronized boolean moveBooking(Booking booking, LocalDateTime expectedAppointmentTime,
+                                            List<Availability> release, List<Availability> claim) {
+        for (Availability slot : claim) {
+            if (availabilityRepository.findByDateAndSlot(slot.getDate(), slot.getSlot()) != null) {
+                return false;
+            }
+        }
+        for (Availability slot : release) {
+            Availability stored = availabilityRepository.findByDateAndSlot(slot.getDate(), slot.getSlot());
+            if (stored == null || !booking.getBookingId().equals(stored.getBookingId())) {
+                return false;
+            }
+        }
+        Booking stored = bookingRepository.findById(booking.getBookingId());
+        if (stored == null || !Objects.equals(stored.getAppointmentTime(), expectedAppointmentTime)
+                || !(stored.getStatus() == Booking.BookingStatus.CONFIRMED
+                    || stored.getStatus() == Booking.BookingStatus.PENDING_PAYMENT)) {
+            return false;
+        }
+
+        for (Availability slot : release) {
+            availabilityRepository.deleteByDateAndSlot(slot.getDate(), slot.getSlot());
+        }
+        for (Availability slot : claim) {
+            availabilityRepository.save(slot);
+        }
+        stored.setAppointmentTime(booking.getAppointmentTime());
+        bookingRepository.save(stored);
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package com.detailing.repository;
+
+import com.detailing.model.Booking;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryBookingRepository implements BookingRepository {
+
+    private final ConcurrentNavigableMap<String, Booking> table = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Booking save(Booking booking) {
+        table.put(booking.getBookingId(), copy(booking));
+        return booking;
+    }
+
+    @Override
+    public Booking findById(String bookingId) {
+        return copy(table.get(bookingId));
+    }
+
+    @Override
+    public List<Booking> findAll() {
+        List<Booking> items = new ArrayList<>(table.size());
+        for (Booking booking : table.values()) {
+            items.add(copy(booking));
+        }
+        return items;
+    }
+
+    @Override
+    public void delete(String bookingId) {
+        table.remove(bookingId);
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    private static Booking copy(Booking source) {
+        if (source == null) {
+            return null;
+        }
+        Booking copy = new Booking();
+        copy.setBookingId(source.getBookingId());
+        copy.setName(source.getName());
+        copy.setEmail(source.getEmail());
+        copy.setPhone(source.getPhone());
+        copy.setAddress(source.getAddress());
+        copy.setVehicleType(source.getVehicleType());
+        copy.setServiceType(source.getServiceType());
+        copy.setAddons(source.getAddons() != null ? new ArrayList<>(source.getAddons()) : null);
+        copy.setAppointmentTime(source.getAppointmentTime());
+        copy.setPaymentMethod(source.getPaymentMethod());
+        copy.setStatus(source.getStatus());
+        copy.setStripeCustomerId(source.getStripeCustomerId());
+        copy.setStripeSessionId(source.getStripeSessionId());
+        copy.setTotalPriceCents(source.getTotalPriceCents());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setHidden(source.isHidden());
+        return copy;
+    }
+}
@@ -0,0 +1,58 @@
+package com.detailing.repository;
+
+import com.detailing.model.DaySummary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryDaySummaryRepository implements DaySummaryRepository {
+
+    private final ConcurrentNavigableMap<String, ConcurrentNavigableMap<String, DaySummary>> table =
+            new ConcurrentSkipListMap<>();
+
+    @Override
+    public boolean saveIfNewer(DaySummary summary) {
+        DaySummary copy = copy(summary);
+        ConcurrentNavigableMap<String, DaySummary> partition =
+                table.computeIfAbsent(summary.getMonth(), month -> new ConcurrentSkipListMap<>());
+        DaySummary stored = partition.merge(summary.getDate(), copy, (existing, candidate) ->
+                existing.getUpdatedAt() == null || existing.getUpdatedAt().compareTo(candidate.getUpdatedAt()) < 0
+                        ? candidate
+                        : existing);
+        return stored == copy;
+    }
+
+    @Override
+    public List<DaySummary> findByMonth(String month) {
+        ConcurrentNavigableMap<String, DaySummary> partition = table.get(month);
+        List<DaySummary> items = new ArrayList<>();
+        if (partition != null) {
+            for (DaySummary summary : partition.values()) {
+                items.add(copy(summary));
+            }
+        }
+        return items;
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    private static DaySummary copy(DaySummary source) {
+        DaySummary copy = new DaySummary();
+        copy.setMonth(source.getMonth());
+        copy.setDate(source.getDate());
+        copy.setTotalSlots(source.getTotalSlots());
+        copy.setFreeMask(source.getFreeMask());
+        copy.setBookedMask(source.getBookedMask());
+        copy.setDayBlocked(source.isDayBlocked());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+}
@@ -1,14 +1,25 @@
 package com.detailing.service;
 
+import com.detailing.model.Availability;
 import com.detailing.model.Booking;
+import com.detailing.model.ServiceCatalog;
 import com.detailing.repository.BookingRepository;
+import com.detailing.util.TimeSlotUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class AdminService {
@@ -17,16 +28,19 @@ public class AdminService {
     private final AvailabilityService availabilityService;
     private final ServiceConfigurationService serviceConfigurationService;
     private final PricingService pricingService;
+    private final DaySummaryService daySummaryService;
 
     @Autowired
     public AdminService(BookingRepository bookingRepository, 
                        AvailabilityService availabilityService,
                        ServiceConfigurationService serviceConfigurationService,
-                       PricingService pricingService) {
+                       PricingService pricingService,
+                       DaySummaryService daySummaryService) {
         this.bookingRepository = bookingRepository;
         this.availabilityService = availabilityService;
         this.serviceConfigurationService = serviceConfigurationService;
         this.pricingService = pricingService;
+        this.daySummaryService = daySummaryService;
     }
 
     public Map<String, Object> getBookingStats() {
@@ -80,19 +94,17 @@ public class AdminService {
         List<Booking> completedBookings = bookingRepository.findByStatus(Booking.BookingStatus.COMPLETED);
         List<Booking> confirmedBookings = bookingRepository.findByStatus(Booking.BookingStatus.CONFIRMED);
         
-        double revenue = 0.0;
+        long revenueCents = 0L;
         
         for (Booking booking : completedBookings) {
-            int totalPriceCents = pricingService.calculateTotalPrice(booking.getServiceType(), booking.getAddons());
-            revenue += totalPriceCents / 100.0; 
+            revenueCents += pricingService.getBookingPriceCents(booking);
         }
         
         for (Booking booking : confirmedBookings) {
-            int totalPriceCents = pricingService.calculateTotalPrice(booking.getServiceType(), booking.getAddons());
-            revenue += totalPriceCents / 100.0; 
+            revenueCents += pricingService.getBookingPriceCents(booking);
         }
         
-        return revenue;
+        return revenueCents / 100.0;
     }
     
     public List<Booking> getAllBookings() {
@@ -129,6 +141,7 @@ public class AdminService {
         Booking.BookingStatus originalStatus = existingBooking.getStatus();
         LocalDateTime originalTime = existingBooking.getAppointmentTime();
         String originalServiceType = existingBooking.getServiceType();
+        List<String> originalAddons = existingBooking.getAddons();
         LocalDateTime newTime = updatedBooking.getAppointmentTime();
         String newServiceType = updatedBooking.getServiceType();
         
@@ -161,6 +174,13 @@ public class AdminService {
         existingBooking.setAppointmentTime(newTime);
         existingBooking.setHidden(updatedBooking.isHidden());
         
+        boolean priceDependsOnTime = timeChanged && pricingService.isDynamicPricingEnabled();
+        if (serviceTypeChanged || priceDependsOnTime || !Objects.equals(originalAddons, updatedBooking.getAddons())
+                || existingBooking.getTotalPriceCents() == null) {
+            existingBooking.setTotalPriceCents(availabilityService.priceBooking(
+                    existingBooking.getServiceType(), existingBooking.getAddons(), existingBooking.getAppointmentTime()));
+        }
+        
         handleBookingUpdate(existingBooking, originalStatus, originalTime, originalServiceType, timeChanged, serviceTypeChanged);
         
         return bookingRepository.save(existingBooking);
@@ -278,4 +298,80 @@ public class AdminService {
         
         return bookingsToHide.size();
     }
-} 
+
+    public Map<String, Object> reloadServiceCatalog() throws IOException {
+        ServiceCatalog catalog = serviceConfigurationService.reload();
+        Map<String, Object> result = new HashMap<>();
+        result.put("version", catalog.getVersion());
+        result.put("services", catalog.size());
+        return result;
+    }
+
+    public Map<String, Object> rebuildDaySummaries(YearMonth month) {
+        int days = daySummaryService.rebuildMonth(month);
+        Map<String, Object> result = new HashMap<>();
+        result.put("month", month.toString());
+        result.put("days", days);
+        return result;
+    }
+
+    public Map<String, Object> getDayView(LocalDate date) {
+        List<Availability> entries = availabilityService.getAvailabilityForDate(date);
+
+        Map<String, Availability> entriesBySlot = new HashMap<>();
+        Set<String> bookingIds = new LinkedHashSet<>();
+        Availability dayBlock = null;
+        for (Availability entry : entries) {
+            if (entry.isAllDay()) {
+                if (entry.isBlocked()) {
+                    dayBlock = entry;
+                }
+                continue;
+            }
+            entriesBySlot.put(entry.getSlot(), entry);
+            if (entry.getBookingId() != null) {
+                bookingIds.add(entry.getBookingId());
+            }
+        }
+
+        Map<String, Booking> bookings = bookingIds.isEmpty()
+                ? Map.of()
+                : bookingRepository.findAllByIds(bookingIds);
+
+        List<Map<String, Object>> slots = new ArrayList<>();
+        for (String slot : TimeSlotUtil.WORKING_HOURS) {
+            Availability entry = entriesBySlot.get(slot);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("slot", slot);
+            row.put("status", entry != null ? entry.getStatus() : Availability.AvailabilityStatus.AVAILABLE);
+            row.put("reason", entry != null ? entry.getReason() : null);
+            row.put("bookingId", entry != null ? entry.getBookingId() : null);
+            Booking booking = entry != null && entry.getBookingId() != null ? bookings.get(entry.getBookingId()) : null;
+            row.put("booking", booking != null ? bookingDetails(booking) : null);
+            slots.add(row);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("date", date.format(TimeSlotUtil.DATE_FMT));
+        result.put("dayBlocked", dayBlock != null);
+        result.put("dayBlockReason", dayBlock != null ? dayBlock.getReason() : null);
+        result.put("slots", slots);
+        return result;
+    }
+
+    private Map<String, Object> bookingDetails(Booking booking) {
+        Map<String, Object> details = new HashMap<>();
+        details.put("bookingId", booking.getBookingId());
+        details.put("customerName", booking.getName());
+        details.put("customerEmail", booking.getEmail());
+        details.put("customerPhone", booking.getPhone());
+        details.put("serviceType", booking.getServiceType());
+        details.put("vehicleType", booking.getVehicleType());
+        details.put("address", booking.getAddress());
+        details.put("addons", booking.getAddons());
+        details.put("paymentMethod", booking.getPaymentMethod());
+        details.put("status", booking.getStatus());
+        details.put("appointmentTime", booking.getAppointmentTime());
+        return details;
+    }
+}
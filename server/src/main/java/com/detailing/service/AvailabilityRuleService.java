@@ -0,0 +1,279 @@
+package com.detailing.service;
+
+import com.detailing.event.AvailabilityRulesChangedEvent;
+import com.detailing.model.AvailabilityRule;
+import com.detailing.repository.AvailabilityRuleRepository;
+import com.detailing.util.TimeSlotUtil;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class AvailabilityRuleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityRuleService.class);
+
+    private final AvailabilityRuleRepository ruleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile RuleIndex index = RuleIndex.EMPTY;
+
+    @Autowired
+    public AvailabilityRuleService(AvailabilityRuleRepository ruleRepository,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.ruleRepository = ruleRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            logger.error("Failed to load availability rules, starting without them: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${availability.rules.refresh-interval-ms:60000}",
+               initialDelayString = "${availability.rules.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh availability rules: {}", e.getMessage());
+        }
+    }
+
+    public Closure closuresFor(LocalDate date) {
+        return index.closuresFor(date);
+    }
+
+    public List<AvailabilityRule> getRules() {
+        return index.rules;
+    }
+
+    public AvailabilityRule createRule(AvailabilityRule rule) {
+        rule.setRuleId(UUID.randomUUID().toString());
+        rule.setCreatedAt(Instant.now().toString());
+        normalize(rule);
+        ruleRepository.save(rule);
+        reload();
+        return rule;
+    }
+
+    public AvailabilityRule updateRule(String ruleId, AvailabilityRule rule) {
+        AvailabilityRule existing = ruleRepository.findById(ruleId);
+        if (existing == null) {
+            throw new IllegalArgumentException("Availability rule not found: " + ruleId);
+        }
+        rule.setRuleId(ruleId);
+        rule.setCreatedAt(existing.getCreatedAt());
+        normalize(rule);
+        ruleRepository.save(rule);
+        reload();
+        return rule;
+    }
+
+    public void deleteRule(String ruleId) {
+        ruleRepository.delete(ruleId);
+        reload();
+    }
+
+    private void reload() {
+        reloadLock.lock();
+        try {
+            List<AvailabilityRule> rules = ruleRepository.findAll();
+            rules.sort(Comparator.comparing(AvailabilityRule::getRuleId));
+            String fingerprint = fingerprint(rules);
+            if (fingerprint.equals(index.fingerprint)) {
+                return;
+            }
+
+            index = RuleIndex.of(rules, fingerprint);
+            logger.info("Loaded {} availability rules", rules.size());
+            eventPublisher.publishEvent(new AvailabilityRulesChangedEvent(rules.size()));
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static void normalize(AvailabilityRule rule) {
+        List<String> days = new ArrayList<>();
+        if (rule.getDaysOfWeek() != null) {
+            for (String day : rule.getDaysOfWeek()) {
+                try {
+                    days.add(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)).name());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid day of week: " + day);
+                }
+            }
+        }
+        rule.setDaysOfWeek(days.isEmpty() ? null : days);
+
+        if (rule.getSlots() != null) {
+            for (String slot : rule.getSlots()) {
+                if (!TimeSlotUtil.WORKING_HOURS.contains(slot)) {
+                    throw new IllegalArgumentException("Invalid slot: " + slot);
+                }
+            }
+            if (rule.getSlots().isEmpty()) {
+                rule.setSlots(null);
+            }
+        }
+
+        LocalDate start = parseOptionalDate(rule.getStartDate());
+        LocalDate end = parseOptionalDate(rule.getEndDate());
+        if (start != null && end != null && end.isBefore(start)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        if (rule.getExceptDates() != null) {
+            rule.getExceptDates().forEach(AvailabilityRuleService::parseOptionalDate);
+        }
+        if (rule.getReason() == null || rule.getReason().isBlank()) {
+            rule.setReason("recurring_rule");
+        }
+    }
+
+    private static LocalDate parseOptionalDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return TimeSlotUtil.parseDate(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + date);
+        }
+    }
+
+    private static String fingerprint(List<AvailabilityRule> rules) {
+        StringBuilder sb = new StringBuilder();
+        for (AvailabilityRule rule : rules) {
+            sb.append(rule.getRuleId()).append('|')
+              .append(rule.getDaysOfWeek()).append('|')
+              .append(rule.getSlots()).append('|')
+              .append(rule.getStartDate()).append('|')
+              .append(rule.getEndDate()).append('|')
+              .append(rule.getExceptDates()).append('|')
+              .append(rule.getReason()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public record Closure(long slotMask, boolean allDay, String reason) {
+
+        public static final Closure NONE = new Closure(0L, false, null);
+
+        public boolean isEmpty() {
+            return !allDay && slotMask == 0L;
+        }
+
+        public boolean closes(int slotIndex) {
+            return allDay || (slotMask & (1L << slotIndex)) != 0;
+        }
+    }
+
+    private record CompiledRule(LocalDate start, LocalDate end, Set<LocalDate> exceptions,
+                                long slotMask, boolean allDay, String reason) {
+
+        boolean appliesTo(LocalDate date) {
+            return (start == null || !date.isBefore(start))
+                    && (end == null || !date.isAfter(end))
+                    && !exceptions.contains(date);
+        }
+    }
+
+    private static final class RuleIndex {
+
+        private static final RuleIndex EMPTY = new RuleIndex(List.of(), new EnumMap<>(DayOfWeek.class), "");
+
+        private final List<AvailabilityRule> rules;
+        private final Map<DayOfWeek, List<CompiledRule>> byDay;
+        private final String fingerprint;
+
+        private RuleIndex(List<AvailabilityRule> rules, Map<DayOfWeek, List<CompiledRule>> byDay, String fingerprint) {
+            this.rules = rules;
+            this.byDay = byDay;
+            this.fingerprint = fingerprint;
+        }
+
+        static RuleIndex of(List<AvailabilityRule> rules, String fingerprint) {
+            Map<DayOfWeek, List<CompiledRule>> byDay = new EnumMap<>(DayOfWeek.class);
+            for (AvailabilityRule rule : rules) {
+                Set<LocalDate> exceptions = new HashSet<>();
+                if (rule.getExceptDates() != null) {
+                    for (String date : rule.getExceptDates()) {
+                        exceptions.add(TimeSlotUtil.parseDate(date));
+                    }
+                }
+
+                long mask = 0L;
+                boolean allDay = rule.getSlots() == null || rule.getSlots().isEmpty();
+                if (!allDay) {
+                    for (String slot : rule.getSlots()) {
+                        int slotIndex = TimeSlotUtil.WORKING_HOURS.indexOf(slot);
+                        if (slotIndex >= 0) {
+                            mask |= 1L << slotIndex;
+                        }
+                    }
+                }
+
+                CompiledRule compiled = new CompiledRule(parseOptionalDate(rule.getStartDate()),
+                        parseOptionalDate(rule.getEndDate()), Set.copyOf(exceptions), mask, allDay, rule.getReason());
+
+                List<DayOfWeek> days = new ArrayList<>();
+                if (rule.getDaysOfWeek() == null || rule.getDaysOfWeek().isEmpty()) {
+                    days.addAll(List.of(DayOfWeek.values()));
+                } else {
+                    for (String day : rule.getDaysOfWeek()) {
+                        days.add(DayOfWeek.valueOf(day));
+                    }
+                }
+                for (DayOfWeek day : days) {
+                    byDay.computeIfAbsent(day, key -> new ArrayList<>()).add(compiled);
+                }
+            }
+            return new RuleIndex(List.copyOf(rules), byDay, fingerprint);
+        }
+
+        Closure closuresFor(LocalDate date) {
+            List<CompiledRule> candidates = byDay.get(date.getDayOfWeek());
+            if (candidates == null) {
+                return Closure.NONE;
+            }
+
+            long mask = 0L;
+            boolean allDay = false;
+            String reason = null;
+            for (CompiledRule rule : candidates) {
+                if (!rule.appliesTo(date)) {
+                    continue;
+                }
+                mask |= rule.slotMask();
+                allDay |= rule.allDay();
+                if (reason == null) {
+                    reason = rule.reason();
+                }
+            }
+            return reason == null ? Closure.NONE : new Closure(mask, allDay, reason);
+        }
+    }
+}
@@ -1,38 +1,183 @@
 package com.detailing.service;
 
+import com.detailing.event.AvailabilityChangedEvent;
+import com.detailing.event.AvailabilityRulesChangedEvent;
+import com.detailing.event.ServiceCatalogChangedEvent;
 import com.detailing.model.Availability;
+import com.detailing.model.AvailabilitySnapshot;
+import com.detailing.model.SlotLookupResult;
+import com.detailing.repository.AvailabilityAsyncRepository;
 import com.detailing.repository.AvailabilityRepository;
+import com.detailing.repository.AvailabilityVersionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import com.detailing.util.TimeSlotUtil;
+import com.detailing.util.ETagUtil;
 
 @Service
 public class AvailabilityService {
 
     private final AvailabilityRepository availabilityRepository;
+    private final AvailabilityAsyncRepository availabilityAsyncRepository;
+    private final AvailabilityVersionRepository availabilityVersionRepository;
     private final ServiceConfigurationService serviceConfigurationService;
+    private final PricingService pricingService;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<String, AvailabilitySnapshot> snapshotCache;
+    private final boolean snapshotCacheEnabled;
+    private final long bulkMaxDays;
+    private final Timer slotSearchTimer;
+    private final Counter coalescedLookups;
+    private final ConcurrentHashMap<SlotQuery, CompletableFuture<SlotLookupResult>> inFlightLookups = new ConcurrentHashMap<>();
     private static final DateTimeFormatter DATE_FORMATTER = TimeSlotUtil.DATE_FMT;
     private static final DateTimeFormatter TIME_FORMATTER = TimeSlotUtil.TIME_FMT;
 
     @Autowired
     public AvailabilityService(AvailabilityRepository availabilityRepository,
-                              ServiceConfigurationService serviceConfigurationService) {
+                              AvailabilityAsyncRepository availabilityAsyncRepository,
+                              AvailabilityVersionRepository availabilityVersionRepository,
+                              ServiceConfigurationService serviceConfigurationService,
+                              PricingService pricingService,
+                              AvailabilityRuleService availabilityRuleService,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${availability.snapshot.ttl-seconds:0}") long snapshotTtlSeconds,
+                              @Value("${availability.snapshot.max-days:400}") long snapshotMaxDays,
+                              @Value("${availability.bulk.max-days:92}") long bulkMaxDays,
+                              MeterRegistry meterRegistry) {
         this.availabilityRepository = availabilityRepository;
+        this.availabilityAsyncRepository = availabilityAsyncRepository;
+        this.availabilityVersionRepository = availabilityVersionRepository;
+        this.bulkMaxDays = bulkMaxDays;
         this.serviceConfigurationService = serviceConfigurationService;
+        this.pricingService = pricingService;
+        this.availabilityRuleService = availabilityRuleService;
+        this.eventPublisher = eventPublisher;
+        this.snapshotCacheEnabled = snapshotTtlSeconds > 0;
+        this.snapshotCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(snapshotTtlSeconds))
+                .maximumSize(snapshotMaxDays)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshotCache, "availabilitySnapshots");
+        this.slotSearchTimer = Timer.builder("availability.slot.search")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.coalescedLookups = Counter.builder("availability.slot.lookup.coalesced")
+                .register(meterRegistry);
+    }
+
+    public AvailabilitySnapshot getDaySnapshot(LocalDate date) {
+        String dateStr = date.format(DATE_FORMATTER);
+        if (!snapshotCacheEnabled) {
+            return readDaySnapshot(dateStr);
+        }
+        return snapshotCache.get(dateStr, this::readDaySnapshot);
+    }
+
+    public AvailabilitySnapshot getCachedDaySnapshot(String dateStr) {
+        return snapshotCache.getIfPresent(dateStr);
+    }
+
+    private AvailabilitySnapshot loadDaySnapshot(String dateStr) {
+        AvailabilitySnapshot snapshot = readDaySnapshot(dateStr);
+        if (snapshotCacheEnabled) {
+            snapshotCache.put(dateStr, snapshot);
+        }
+        return snapshot;
+    }
+
+    private AvailabilitySnapshot readDaySnapshot(String dateStr) {
+        return buildDaySnapshot(dateStr, availabilityRepository.findByDate(dateStr));
+    }
+
+    public AvailabilitySnapshot buildDaySnapshot(String dateStr, List<Availability> storedEntries) {
+        AvailabilityRuleService.Closure closure = availabilityRuleService.closuresFor(TimeSlotUtil.parseDate(dateStr));
+        return AvailabilitySnapshot.of(dateStr, storedEntries).withClosures(closure.slotMask(), closure.allDay());
+    }
+
+    @EventListener
+    public void onRulesChanged(AvailabilityRulesChangedEvent event) {
+        snapshotCache.invalidateAll();
+        inFlightLookups.clear();
+    }
+
+    @EventListener
+    public void onCatalogChanged(ServiceCatalogChangedEvent event) {
+        if (event.isDurationsChanged()) {
+            inFlightLookups.clear();
+        }
+    }
+
+    public long getDateVersion(LocalDate date) {
+        return availabilityVersionRepository.findVersion(date.format(DATE_FORMATTER));
+    }
+
+    public String getAvailabilityETag(LocalDate date) {
+        return ETagUtil.strong("availability", date, getDateVersion(date), availabilityRuleService.closuresFor(date));
+    }
+
+    public String getSlotsETag(LocalDate date, String serviceType, String excludeBookingId) {
+        Object pricingWindow = pricingService.isDynamicPricingEnabled()
+                ? LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+                : "static";
+        return ETagUtil.strong("slots", date, getDateVersion(date), availabilityRuleService.closuresFor(date),
+                serviceType, excludeBookingId, serviceConfigurationService.getCatalogVersion(), pricingWindow);
+    }
+
+    private void invalidateSnapshot(String dateStr) {
+        invalidateSnapshots(List.of(dateStr));
+    }
+
+    private void invalidateSnapshots(Collection<String> dates) {
+        Set<String> changed = Set.copyOf(dates);
+        try {
+            snapshotCache.invalidateAll(changed);
+            inFlightLookups.keySet().removeIf(query -> changed.contains(query.date()));
+        } finally {
+            availabilityVersionRepository.increment(changed);
+        }
+    }
+
+    private void publishChange(String dateStr, AvailabilityChangedEvent.ChangeType changeType, List<String> slots) {
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(dateStr, changeType, slots));
     }
 
     private boolean isSlotAvailable(LocalDate date, LocalTime time, String excludeBookingId) {
         String dateStr = date.format(DATE_FORMATTER);
         String timeStr = time.format(TIME_FORMATTER);
+        int slotIndex = TimeSlotUtil.WORKING_HOURS.indexOf(timeStr);
+        if (slotIndex >= 0 && availabilityRuleService.closuresFor(date).closes(slotIndex)) {
+            return false;
+        }
         return availabilityRepository.isSlotAvailable(dateStr, timeStr, excludeBookingId);
     }
 
@@ -66,9 +211,17 @@ public class AvailabilityService {
 
     @Transactional
     public void bookSlot(LocalDate date, LocalTime time, String bookingId) {
+        String dateStr = date.format(DATE_FORMATTER);
+        String timeStr = time.format(TIME_FORMATTER);
+        saveBookedSlot(dateStr, timeStr, bookingId);
+        invalidateSnapshot(dateStr);
+        publishChange(dateStr, AvailabilityChangedEvent.ChangeType.BOOKED, List.of(timeStr));
+    }
+
+    private void saveBookedSlot(String dateStr, String slot, String bookingId) {
         Availability availability = new Availability();
-        availability.setDate(date.format(DATE_FORMATTER));
-        availability.setSlot(time.format(TIME_FORMATTER));
+        availability.setDate(dateStr);
+        availability.setSlot(slot);
         availability.setStatus(Availability.AvailabilityStatus.BOOKED);
         availability.setReason("customer_booking");
         availability.setBookingId(bookingId);
@@ -95,6 +248,8 @@ public class AvailabilityService {
         availability.setStatus(Availability.AvailabilityStatus.BLOCKED);
         availability.setReason(reason);
         availabilityRepository.save(availability);
+        invalidateSnapshot(availability.getDate());
+        publishChange(availability.getDate(), AvailabilityChangedEvent.ChangeType.BLOCKED, List.of(availability.getSlot()));
     }
 
     public void blockDay(LocalDate date, String reason) {
@@ -104,6 +259,141 @@ public class AvailabilityService {
         availability.setStatus(Availability.AvailabilityStatus.BLOCKED);
         availability.setReason(reason);
         availabilityRepository.save(availability);
+        invalidateSnapshot(availability.getDate());
+        publishChange(availability.getDate(), AvailabilityChangedEvent.ChangeType.DAY_BLOCKED, List.of());
+    }
+
+    public Map<String, List<String>> blockRange(LocalDate from, LocalDate to, List<String> requestedSlots, String reason) {
+        List<String> dates = rangeDates(from, to);
+        List<String> slots = distinctSlots(requestedSlots);
+        boolean allDay = slots.isEmpty();
+
+        Map<String, List<String>> changed = new LinkedHashMap<>();
+        List<Availability> puts = new ArrayList<>();
+        if (allDay) {
+            for (String date : dates) {
+                puts.add(blockedEntry(date, "ALL_DAY", reason));
+                changed.put(date, List.of());
+            }
+        } else {
+            Map<String, List<Availability>> existing = availabilityAsyncRepository.findByDates(dates).join();
+            for (String date : dates) {
+                Set<String> booked = new HashSet<>();
+                for (Availability entry : existing.getOrDefault(date, List.of())) {
+                    if (entry.getStatus() == Availability.AvailabilityStatus.BOOKED) {
+                        booked.add(entry.getSlot());
+                    }
+                }
+                List<String> blocked = new ArrayList<>();
+                for (String slot : slots) {
+                    if (!booked.contains(slot)) {
+                        puts.add(blockedEntry(date, slot, reason));
+                        blocked.add(slot);
+                    }
+                }
+                if (!blocked.isEmpty()) {
+                    changed.put(date, blocked);
+                }
+            }
+        }
+
+        writeRange(puts, List.of(), changed, allDay
+                ? AvailabilityChangedEvent.ChangeType.DAY_BLOCKED
+                : AvailabilityChangedEvent.ChangeType.BLOCKED);
+        return changed;
+    }
+
+    public Map<String, List<String>> unblockRange(LocalDate from, LocalDate to, List<String> requestedSlots) {
+        List<String> dates = rangeDates(from, to);
+        List<String> slots = distinctSlots(requestedSlots);
+        boolean allDay = slots.isEmpty();
+        Set<String> targets = allDay ? Set.of("ALL_DAY") : Set.copyOf(slots);
+
+        Map<String, List<Availability>> existing = availabilityAsyncRepository.findByDates(dates).join();
+        Map<String, List<String>> changed = new LinkedHashMap<>();
+        List<Availability> deletes = new ArrayList<>();
+        for (String date : dates) {
+            List<String> unblocked = new ArrayList<>();
+            for (Availability entry : existing.getOrDefault(date, List.of())) {
+                if (entry.getStatus() == Availability.AvailabilityStatus.BLOCKED && targets.contains(entry.getSlot())) {
+                    deletes.add(entry);
+                    unblocked.add(entry.getSlot());
+                }
+            }
+            if (!unblocked.isEmpty()) {
+                changed.put(date, allDay ? List.of() : unblocked);
+            }
+        }
+
+        writeRange(List.of(), deletes, changed, allDay
+                ? AvailabilityChangedEvent.ChangeType.DAY_UNBLOCKED
+                : AvailabilityChangedEvent.ChangeType.UNBLOCKED);
+        return changed;
+    }
+
+    private void writeRange(List<Availability> puts, List<Availability> deletes, Map<String, List<String>> changed,
+                            AvailabilityChangedEvent.ChangeType changeType) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            availabilityAsyncRepository.batchWrite(puts, deletes).join();
+        } finally {
+            try {
+                invalidateSnapshots(changed.keySet());
+            } finally {
+                changed.forEach((date, slots) -> publishChange(date, changeType, slots));
+            }
+        }
+    }
+
+    public void recordMoves(Map<String, List<String>> released, Map<String, List<String>> claimed) {
+        Set<String> dates = new HashSet<>(released.keySet());
+        dates.addAll(claimed.keySet());
+        if (dates.isEmpty()) {
+            return;
+        }
+        invalidateSnapshots(dates);
+        released.forEach((date, slots) -> publishChange(date, AvailabilityChangedEvent.ChangeType.CANCELED, slots));
+        claimed.forEach((date, slots) -> publishChange(date, AvailabilityChangedEvent.ChangeType.BOOKED, slots));
+    }
+
+    private List<String> rangeDates(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > bulkMaxDays) {
+            throw new IllegalArgumentException("At most " + bulkMaxDays + " days can be changed at once");
+        }
+        List<String> dates = new ArrayList<>((int) days);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            dates.add(date.format(DATE_FORMATTER));
+        }
+        return dates;
+    }
+
+    private static List<String> distinctSlots(List<String> slots) {
+        if (slots == null) {
+            return List.of();
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String slot : slots) {
+            if (slot == null || !TimeSlotUtil.WORKING_HOURS.contains(slot)) {
+                throw new IllegalArgumentException("Invalid slot: " + slot);
+            }
+            distinct.add(slot);
+        }
+        return List.copyOf(distinct);
+    }
+
+    private static Availability blockedEntry(String date, String slot, String reason) {
+        Availability availability = new Availability();
+        availability.setDate(date);
+        availability.setSlot(slot);
+        availability.setStatus(Availability.AvailabilityStatus.BLOCKED);
+        availability.setReason(reason);
+        return availability;
     }
 
     public void blockSlot(String date, String slot, String reason) {
@@ -123,11 +413,15 @@ public class AvailabilityService {
         String dateStr = date.format(DATE_FORMATTER);
         String timeStr = time.format(TIME_FORMATTER);
         availabilityRepository.deleteByDateAndSlot(dateStr, timeStr);
+        invalidateSnapshot(dateStr);
+        publishChange(dateStr, AvailabilityChangedEvent.ChangeType.UNBLOCKED, List.of(timeStr));
     }
 
     public void unblockDay(LocalDate date) {
         String dateStr = date.format(DATE_FORMATTER);
         availabilityRepository.deleteByDateAndSlot(dateStr, "ALL_DAY");
+        invalidateSnapshot(dateStr);
+        publishChange(dateStr, AvailabilityChangedEvent.ChangeType.DAY_UNBLOCKED, List.of());
     }
 
     public void unblockSlot(String date, String slot) {
@@ -147,6 +441,8 @@ public class AvailabilityService {
         String dateStr = date.format(DATE_FORMATTER);
         String timeStr = time.format(TIME_FORMATTER);
         availabilityRepository.deleteByDateAndSlot(dateStr, timeStr);
+        invalidateSnapshot(dateStr);
+        publishChange(dateStr, AvailabilityChangedEvent.ChangeType.CANCELED, List.of(timeStr));
     }
 
     public void cancelBooking(LocalDateTime dateTime, String bookingId) {
@@ -162,7 +458,37 @@ public class AvailabilityService {
     }
 
     public List<Availability> getAvailabilityForDate(LocalDate date) {
-        return availabilityRepository.findByDate(date.format(DATE_FORMATTER));
+        String dateStr = date.format(DATE_FORMATTER);
+        List<Availability> entries = availabilityRepository.findByDate(dateStr);
+        AvailabilityRuleService.Closure closure = availabilityRuleService.closuresFor(date);
+        if (closure.isEmpty()) {
+            return entries;
+        }
+
+        Set<String> storedSlots = new HashSet<>();
+        for (Availability entry : entries) {
+            storedSlots.add(entry.getSlot());
+        }
+        List<Availability> merged = new ArrayList<>(entries);
+        if (closure.allDay() && !storedSlots.contains("ALL_DAY")) {
+            merged.add(ruleEntry(dateStr, "ALL_DAY", closure.reason()));
+        }
+        for (int i = 0; i < TimeSlotUtil.WORKING_HOURS.size(); i++) {
+            String slot = TimeSlotUtil.WORKING_HOURS.get(i);
+            if ((closure.slotMask() & (1L << i)) != 0 && !storedSlots.contains(slot)) {
+                merged.add(ruleEntry(dateStr, slot, closure.reason()));
+            }
+        }
+        return merged;
+    }
+
+    private static Availability ruleEntry(String dateStr, String slot, String reason) {
+        Availability availability = new Availability();
+        availability.setDate(dateStr);
+        availability.setSlot(slot);
+        availability.setStatus(Availability.AvailabilityStatus.BLOCKED);
+        availability.setReason(reason);
+        return availability;
     }
 
     public List<Availability> getAvailabilityForDate(String date) {
@@ -178,9 +504,7 @@ public class AvailabilityService {
     }
 
     public boolean isDayBlocked(LocalDate date) {
-        String dateStr = date.format(DATE_FORMATTER);
-        Availability allDaySlot = availabilityRepository.findByDateAndSlot(dateStr, "ALL_DAY");
-        return allDaySlot != null && !allDaySlot.isAvailable();
+        return getDaySnapshot(date).isDayBlocked();
     }
 
     public boolean isDayBlocked(String date) {
@@ -194,8 +518,10 @@ public class AvailabilityService {
         
         String date = startDateTime.format(DATE_FORMATTER);
         for (String slot : slotsToBook) {
-            bookSlot(date, slot, bookingId);
+            saveBookedSlot(date, slot, bookingId);
         }
+        invalidateSnapshot(date);
+        publishChange(date, AvailabilityChangedEvent.ChangeType.BOOKED, slotsToBook);
     }
     
     @Transactional
@@ -205,8 +531,10 @@ public class AvailabilityService {
         
         String date = startDateTime.format(DATE_FORMATTER);
         for (String slot : slotsToCancel) {
-            cancelBooking(date, slot);
+            availabilityRepository.deleteByDateAndSlot(date, slot);
         }
+        invalidateSnapshot(date);
+        publishChange(date, AvailabilityChangedEvent.ChangeType.CANCELED, slotsToCancel);
     }
     
     public boolean areServiceSlotsAvailable(LocalDateTime startDateTime, String serviceType) {
@@ -217,9 +545,9 @@ public class AvailabilityService {
         int durationMinutes = serviceConfigurationService.getServiceDurationMinutes(serviceType);
         List<String> requiredSlots = calculateRequiredSlots(startDateTime, durationMinutes);
         
-        String date = startDateTime.format(DATE_FORMATTER);
+        AvailabilitySnapshot snapshot = loadDaySnapshot(startDateTime.format(DATE_FORMATTER));
         for (String slot : requiredSlots) {
-            if (!isSlotAvailable(date, slot, excludeBookingId)) {
+            if (!snapshot.isSlotFree(TimeSlotUtil.WORKING_HOURS.indexOf(slot), excludeBookingId)) {
                 return false;
             }
         }
@@ -249,19 +577,98 @@ public class AvailabilityService {
         return availabilityRepository.findSlotsByBookingId(bookingId);
     }
 
+    public SlotLookupResult lookupStartSlots(LocalDate date, String serviceType, String excludeBookingId) {
+        SlotQuery query = new SlotQuery(date.format(DATE_FORMATTER), serviceType, excludeBookingId);
+        CompletableFuture<SlotLookupResult> flight = new CompletableFuture<>();
+        CompletableFuture<SlotLookupResult> existing = inFlightLookups.putIfAbsent(query, flight);
+        if (existing != null) {
+            coalescedLookups.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            SlotLookupResult result = computeStartSlots(date, serviceType, excludeBookingId);
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLookups.remove(query, flight);
+        }
+    }
+
+    private SlotLookupResult computeStartSlots(LocalDate date, String serviceType, String excludeBookingId) {
+        AvailabilitySnapshot snapshot = getDaySnapshot(date);
+        if (snapshot.isDayBlocked()) {
+            return SlotLookupResult.blocked();
+        }
+        if (pricingService.isDynamicPricingEnabled() && serviceType != null && !serviceType.isEmpty()) {
+            return SlotLookupResult.withPrices(priceStartSlots(snapshot, date, serviceType, excludeBookingId));
+        }
+        return SlotLookupResult.of(slotSearchTimer.record(() -> fitStartSlots(snapshot, serviceType, excludeBookingId)));
+    }
+
     public List<String> findStartSlots(LocalDate date, String serviceType, String excludeBookingId){
-        int minutes = serviceType == null || serviceType.isEmpty() ? 60 : serviceConfigurationService.getServiceDurationMinutes(serviceType);
-        int needed = (int)Math.ceil(minutes / 60.0);
+        return slotSearchTimer.record(() -> fitStartSlots(getDaySnapshot(date), serviceType, excludeBookingId));
+    }
+
+    public List<String> fitStartSlots(AvailabilitySnapshot snapshot, String serviceType, String excludeBookingId){
+        int needed = requiredSlotCount(serviceType);
 
         List<String> result = new ArrayList<>();
         for(int i=0;i<= TimeSlotUtil.WORKING_HOURS.size()-needed;i++){
-            final int currentIndex = i;
-            boolean free = IntStream.range(0,needed)
-                    .allMatch(j -> isSlotAvailable(date, TimeSlotUtil.WORKING_HOURS.get(currentIndex+j), excludeBookingId));
-            if(free){
-                result.add(TimeSlotUtil.WORKING_HOURS.get(currentIndex));
+            if(snapshot.fits(i, needed, excludeBookingId)){
+                result.add(TimeSlotUtil.WORKING_HOURS.get(i));
+            }
+        }
+        return result;
+    }
+
+    public Map<String, Integer> findStartSlotPrices(LocalDate date, String serviceType, String excludeBookingId){
+        return priceStartSlots(getDaySnapshot(date), date, serviceType, excludeBookingId);
+    }
+
+    private Map<String, Integer> priceStartSlots(AvailabilitySnapshot snapshot, LocalDate date, String serviceType, String excludeBookingId){
+        int needed = requiredSlotCount(serviceType);
+        int serviceCents = pricingService.getServicePrice(serviceType);
+        double occupancy = snapshot.getOccupancyRatio();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for(int i=0;i<= TimeSlotUtil.WORKING_HOURS.size()-needed;i++){
+            if(snapshot.fits(i, needed, excludeBookingId)){
+                String slot = TimeSlotUtil.WORKING_HOURS.get(i);
+                LocalDateTime start = date.atTime(TimeSlotUtil.parseTime(slot));
+                result.put(slot, pricingService.adjustServicePrice(serviceCents, start, occupancy, now));
             }
         }
         return result;
     }
-} 
+
+    public int priceBooking(String serviceType, List<String> addons, LocalDateTime start) {
+        if (pricingService.isDynamicPricingEnabled() && start != null) {
+            double occupancy = getDaySnapshot(start.toLocalDate()).getOccupancyRatio();
+            return pricingService.calculateTotalPrice(serviceType, addons, start, occupancy);
+        }
+        return pricingService.calculateTotalPrice(serviceType, addons);
+    }
+
+    public int requiredSlotCount(String serviceType) {
+        int minutes = serviceType == null || serviceType.isEmpty() ? 60 : serviceConfigurationService.getServiceDurationMinutes(serviceType);
+        return (int)Math.ceil(minutes / 60.0);
+    }
+
+    private record SlotQuery(String date, String serviceType, String excludeBookingId) {
+    }
+}
@@ -0,0 +1,241 @@
+package com.detailing.service;
+
+import com.detailing.event.AvailabilityChangedEvent;
+import com.detailing.event.AvailabilityRulesChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class AvailabilityStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityStreamService.class);
+
+    private final TaskExecutor streamExecutor;
+    private final int maxSubscribers;
+    private final int maxDates;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long writeTimeoutNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Subscriber>> subscribersByDate = new ConcurrentHashMap<>();
+    private final Counter deliveredCounter;
+    private final Counter overflowCounter;
+    private final Counter stalledCounter;
+
+    public AvailabilityStreamService(@Qualifier("streamExecutor") TaskExecutor streamExecutor,
+                                     @Value("${availability.stream.max-subscribers:1000}") int maxSubscribers,
+                                     @Value("${availability.stream.max-dates:31}") int maxDates,
+                                     @Value("${availability.stream.buffer-size:32}") int bufferSize,
+                                     @Value("${availability.stream.timeout-ms:1800000}") long timeoutMs,
+                                     @Value("${availability.stream.write-timeout-ms:5000}") long writeTimeoutMs,
+                                     MeterRegistry meterRegistry) {
+        this.streamExecutor = streamExecutor;
+        this.maxSubscribers = maxSubscribers;
+        this.maxDates = maxDates;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.writeTimeoutNanos = writeTimeoutMs * 1_000_000L;
+        this.deliveredCounter = Counter.builder("availability.stream.events")
+                .tag("outcome", "delivered")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("availability.stream.events")
+                .tag("outcome", "overflow")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("availability.stream.disconnects")
+                .tag("reason", "write-timeout")
+                .register(meterRegistry);
+        meterRegistry.gauge("availability.stream.subscribers", subscribers, Set::size);
+    }
+
+    public SseEmitter subscribe(List<String> dates) {
+        if (dates.isEmpty() || dates.size() > maxDates) {
+            throw new IllegalArgumentException("Between 1 and " + maxDates + " dates can be streamed at once");
+        }
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many availability stream subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(dates), bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.add(subscriber);
+        for (String date : subscriber.dates) {
+            subscribersByDate.compute(date, (key, set) -> {
+                Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                target.add(subscriber);
+                return target;
+            });
+        }
+
+        try {
+            emitter.send(SseEmitter.event().name("ready").data(Map.of("dates", subscriber.dates)));
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        Set<Subscriber> interested = subscribersByDate.get(event.getDate());
+        if (interested == null) {
+            return;
+        }
+        for (Subscriber subscriber : interested) {
+            if (!subscriber.queue.offer(event)) {
+                subscriber.resyncPending.set(true);
+                overflowCounter.increment();
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    @EventListener
+    public void onRulesChanged(AvailabilityRulesChangedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.resyncPending.set(true);
+            scheduleDrain(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${availability.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue.set(true);
+            scheduleDrain(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${availability.stream.write-check-interval-ms:1000}")
+    public void disconnectStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0L && now - started > writeTimeoutNanos) {
+                logger.info("Dropping availability stream subscriber stuck on a write for over {} ms",
+                        writeTimeoutNanos / 1_000_000L);
+                subscriber.stalled = true;
+                remove(subscriber);
+                stalledCounter.increment();
+            }
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> drain(subscriber));
+        } catch (RuntimeException e) {
+            subscriber.draining.set(false);
+            logger.warn("Could not schedule availability stream delivery: {}", e.getMessage());
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                if (subscriber.resyncPending.getAndSet(false)) {
+                    subscriber.queue.clear();
+                    send(subscriber, SseEmitter.event().name("resync").data(Map.of("dates", subscriber.dates)));
+                    continue;
+                }
+                AvailabilityChangedEvent event = subscriber.queue.poll();
+                if (event != null) {
+                    send(subscriber, SseEmitter.event().name("availability").data(event));
+                    deliveredCounter.increment();
+                    continue;
+                }
+                if (subscriber.heartbeatDue.getAndSet(false)) {
+                    send(subscriber, SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                break;
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Availability stream subscriber disconnected: {}", e.getMessage());
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (subscriber.stalled) {
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException e) {
+                logger.debug("Stalled availability stream subscriber already closed: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (!subscriber.closed && (!subscriber.queue.isEmpty() || subscriber.resyncPending.get()
+                || subscriber.heartbeatDue.get())) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private static void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedNanos = Math.max(System.nanoTime(), 1L);
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedNanos = 0L;
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        for (String date : subscriber.dates) {
+            subscribersByDate.computeIfPresent(date, (key, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        subscriber.queue.clear();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> dates;
+        private final BlockingQueue<AvailabilityChangedEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resyncPending = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean stalled;
+        private volatile long sendStartedNanos;
+
+        private Subscriber(SseEmitter emitter, Set<String> dates, int bufferSize) {
+            this.emitter = emitter;
+            this.dates = dates;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -2,11 +2,16 @@ package com.detailing.service;
 
 import com.detailing.model.Booking;
 import com.detailing.repository.BookingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -15,15 +20,41 @@ public class BookingService {
     private final BookingRepository bookingRepository;
     private final AvailabilityService availabilityService;
     private final GmailService gmailService;
+    private final TaskExecutor emailExecutor;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public BookingService(BookingRepository bookingRepository, AvailabilityService availabilityService, GmailService gmailService) {
+    public BookingService(BookingRepository bookingRepository, AvailabilityService availabilityService,
+                          GmailService gmailService,
+                          @Qualifier("emailExecutor") TaskExecutor emailExecutor,
+                          MeterRegistry meterRegistry) {
         this.bookingRepository = bookingRepository;
         this.availabilityService = availabilityService;
         this.gmailService = gmailService;
+        this.emailExecutor = emailExecutor;
+        this.meterRegistry = meterRegistry;
     }
 
     public Booking createBooking(Booking bookingDetails) throws IllegalStateException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Booking booking = doCreateBooking(bookingDetails);
+            outcome = "success";
+            return booking;
+        } catch (IllegalStateException e) {
+            outcome = "unavailable";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("booking.create")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            meterRegistry.counter("booking.create.requests", "outcome", outcome).increment();
+        }
+    }
+
+    private Booking doCreateBooking(Booking bookingDetails) throws IllegalStateException {
         
         LocalDateTime appointmentTime = bookingDetails.getAppointmentTime();
         String serviceType = bookingDetails.getServiceType();
@@ -36,13 +67,15 @@ public class BookingService {
         bookingDetails.setCreatedAt(Instant.now());
 
         bookingDetails.setStatus(Booking.BookingStatus.PENDING_PAYMENT);
+        bookingDetails.setTotalPriceCents(
+                availabilityService.priceBooking(serviceType, bookingDetails.getAddons(), appointmentTime));
         
         bookingRepository.save(bookingDetails);
 
         availabilityService.bookServiceSlots(appointmentTime, serviceType, bookingDetails.getBookingId());
 
         try {
-            gmailService.sendBookingConfirmation(bookingDetails);
+            emailExecutor.execute(() -> gmailService.sendBookingConfirmation(bookingDetails));
         } catch (Exception e) {
             
             System.err.println("Failed to send booking confirmation email for booking " + bookingDetails.getBookingId() + ": " + e.getMessage());
@@ -89,11 +122,20 @@ public class BookingService {
         Booking existingBooking = getBookingById(booking.getBookingId());
         String previousStatus = existingBooking != null ? existingBooking.getStatus().toString() : null;
         
+        if (existingBooking != null && existingBooking.getTotalPriceCents() != null
+                && Objects.equals(existingBooking.getServiceType(), booking.getServiceType())
+                && Objects.equals(existingBooking.getAddons(), booking.getAddons())) {
+            booking.setTotalPriceCents(existingBooking.getTotalPriceCents());
+        } else {
+            booking.setTotalPriceCents(availabilityService.priceBooking(
+                    booking.getServiceType(), booking.getAddons(), booking.getAppointmentTime()));
+        }
+        
         bookingRepository.save(booking);
         
         if (existingBooking != null && !existingBooking.getStatus().equals(booking.getStatus())) {
             try {
-                gmailService.sendBookingStatusUpdate(booking, previousStatus);
+                emailExecutor.execute(() -> gmailService.sendBookingStatusUpdate(booking, previousStatus));
             } catch (Exception e) {
                 
                 System.err.println("Failed to send booking status update email for booking " + booking.getBookingId() + ": " + e.getMessage());
@@ -0,0 +1,126 @@
+package com.detailing.service;
+
+import com.detailing.event.AvailabilityChangedEvent;
+import com.detailing.model.AvailabilitySnapshot;
+import com.detailing.model.DaySummary;
+import com.detailing.repository.AvailabilityRepository;
+import com.detailing.repository.DaySummaryRepository;
+import com.detailing.util.TimeSlotUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class DaySummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DaySummaryService.class);
+    private static final int LOCK_STRIPES = 64;
+    private static final DateTimeFormatter READ_AT_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final AvailabilityRepository availabilityRepository;
+    private final DaySummaryRepository daySummaryRepository;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final TaskExecutor summaryExecutor;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Set<String> pendingDates = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public DaySummaryService(AvailabilityRepository availabilityRepository,
+                             DaySummaryRepository daySummaryRepository,
+                             AvailabilityRuleService availabilityRuleService,
+                             @Qualifier("summaryExecutor") TaskExecutor summaryExecutor) {
+        this.availabilityRepository = availabilityRepository;
+        this.daySummaryRepository = daySummaryRepository;
+        this.availabilityRuleService = availabilityRuleService;
+        this.summaryExecutor = summaryExecutor;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        String dateStr = event.getDate();
+        if (!pendingDates.add(dateStr)) {
+            return;
+        }
+        try {
+            summaryExecutor.execute(() -> refreshPending(dateStr));
+        } catch (RuntimeException e) {
+            pendingDates.remove(dateStr);
+            logger.warn("Could not schedule day summary refresh for {}: {}", dateStr, e.getMessage());
+        }
+    }
+
+    private void refreshPending(String dateStr) {
+        pendingDates.remove(dateStr);
+        try {
+            refresh(dateStr);
+        } catch (Exception e) {
+            logger.warn("Failed to refresh day summary for {}: {}", dateStr, e.getMessage());
+        }
+    }
+
+    public DaySummary refresh(String dateStr) {
+        ReentrantLock lock = locks[Math.floorMod(dateStr.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            String readAt = READ_AT_FORMAT.format(Instant.now());
+            AvailabilitySnapshot snapshot = AvailabilitySnapshot.of(dateStr,
+                    availabilityRepository.findByDate(dateStr, true));
+            DaySummary summary = DaySummary.of(snapshot, readAt);
+            if (!daySummaryRepository.saveIfNewer(summary)) {
+                logger.debug("Skipped day summary for {}: a summary from a later read is already stored", dateStr);
+            }
+            return summary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<DaySummary> getMonth(YearMonth month) {
+        Map<String, DaySummary> stored = new HashMap<>();
+        for (DaySummary summary : daySummaryRepository.findByMonth(month.toString())) {
+            stored.put(summary.getDate(), summary);
+        }
+
+        List<DaySummary> days = new ArrayList<>(month.lengthOfMonth());
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            String dateStr = date.format(TimeSlotUtil.DATE_FMT);
+            DaySummary summary = stored.get(dateStr);
+            if (summary == null) {
+                summary = DaySummary.of(AvailabilitySnapshot.of(dateStr, List.of()), null);
+            }
+            AvailabilityRuleService.Closure closure = availabilityRuleService.closuresFor(date);
+            days.add(summary.withClosures(closure.slotMask(), closure.allDay()));
+        }
+        return days;
+    }
+
+    public int rebuildMonth(YearMonth month) {
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            refresh(date.format(TimeSlotUtil.DATE_FMT));
+        }
+        return month.lengthOfMonth();
+    }
+}
@@ -3,9 +3,11 @@ package com.detailing.service;
 import com.detailing.model.Booking;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 @Service
 public class EmailTemplateService {
@@ -171,6 +173,27 @@ public class EmailTemplateService {
         return html.toString();
     }
 
+    public String generateRescheduleNoticePlainText(List<Booking> bookings, LocalDate originalDate) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("APPOINTMENT RESCHEDULED\n");
+        sb.append("=======================\n\n");
+        sb.append("Due to weather we had to close on ")
+          .append(originalDate.format(DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy")))
+          .append(", so we moved your appointment to the earliest opening we have.\n\n");
+
+        for (Booking booking : bookings) {
+            sb.append("Booking ID: ").append(booking.getBookingId()).append("\n");
+            sb.append("Service Type: ").append(formatServiceType(booking.getServiceType())).append("\n");
+            sb.append("New Appointment Time: ").append(formatAppointmentTime(booking.getAppointmentTime())).append("\n\n");
+        }
+
+        sb.append("If the new time doesn't work for you, just reply to this email and we'll find another one.\n\n");
+        sb.append("Best regards,\n");
+        sb.append("Earned Shine Detailing Team");
+
+        return sb.toString();
+    }
+
     private String detail(String label, String value) {
         return "<tr><td style='padding: 8px 0; border-bottom: 1px solid #dee2e6; font-weight: bold; color: #495057;'>" + label + ":</td><td style='padding: 8px 0; border-bottom: 1px solid #dee2e6; color: #6c757d;'>" + value + "</td></tr>";
     }
@@ -13,10 +13,14 @@ import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import javax.mail.Session;
 import javax.mail.internet.InternetAddress;
@@ -30,8 +34,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class GmailService {
@@ -44,45 +53,64 @@ public class GmailService {
     private final EmailDeliverabilityConfig deliverabilityConfig;
     private final EmailTemplateService emailTemplateService;
     private final CalendarService calendarService;
+    private final ReentrantLock gmailInitLock = new ReentrantLock();
     private volatile Gmail gmailService;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger emailsInFlight = new AtomicInteger();
 
     @Autowired
     public GmailService(GmailConfig gmailConfig, 
                        EmailDeliverabilityConfig deliverabilityConfig,
                        EmailTemplateService emailTemplateService,
-                       CalendarService calendarService) {
+                       CalendarService calendarService,
+                       MeterRegistry meterRegistry) {
         this.gmailConfig = gmailConfig;
         this.deliverabilityConfig = deliverabilityConfig;
         this.emailTemplateService = emailTemplateService;
         this.calendarService = calendarService;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("email.send.inflight", emailsInFlight, AtomicInteger::get).register(meterRegistry);
     }
 
     private Gmail getGmail() throws Exception {
-        if (gmailService == null) {
-            synchronized (this) {
-                if (gmailService == null) {
+        Gmail gmail = gmailService;
+        if (gmail == null) {
+            gmailInitLock.lock();
+            try {
+                gmail = gmailService;
+                if (gmail == null) {
                     logger.info("Initializing Gmail service…");
 
                     NetHttpTransport transport = GoogleNetHttpTransport.newTrustedTransport();
 
-                    UserCredentials creds = UserCredentials.newBuilder()
+                    UserCredentials.Builder credsBuilder = UserCredentials.newBuilder()
                             .setClientId(gmailConfig.getClientId())
                             .setClientSecret(gmailConfig.getClientSecret())
-                            .setRefreshToken(gmailConfig.getRefreshToken())
-                            .build();
+                            .setRefreshToken(gmailConfig.getRefreshToken());
+                    if (StringUtils.hasText(gmailConfig.getTokenServerUri())) {
+                        credsBuilder.setTokenServerUri(URI.create(gmailConfig.getTokenServerUri()));
+                    }
+                    UserCredentials creds = credsBuilder.build();
 
-                    gmailService = new Gmail.Builder(
+                    Gmail.Builder gmailBuilder = new Gmail.Builder(
                                     transport,
                                     JSON_FACTORY,
                                     new HttpCredentialsAdapter(creds))
-                            .setApplicationName(APPLICATION_NAME)
-                            .build();
+                            .setApplicationName(APPLICATION_NAME);
+                    if (StringUtils.hasText(gmailConfig.getRootUrl())) {
+                        logger.info("Using Gmail API root URL {}", gmailConfig.getRootUrl());
+                        gmailBuilder.setRootUrl(gmailConfig.getRootUrl());
+                    }
+                    gmail = gmailBuilder.build();
+                    gmailService = gmail;
 
                     logger.info("Gmail service ready");
                 }
+            } finally {
+                gmailInitLock.unlock();
             }
         }
-        return gmailService;
+        return gmail;
     }
 
     public void sendBookingConfirmation(Booking booking) {
@@ -158,10 +186,51 @@ public class GmailService {
         }
     }
 
+    public void sendRescheduleNotice(List<Booking> bookings, LocalDate originalDate) {
+        Booking first = bookings.get(0);
+        try {
+            String subject = bookings.size() == 1
+                    ? "Appointment Rescheduled - " + first.getBookingId()
+                    : "Appointments Rescheduled";
+            String content = emailTemplateService.generateRescheduleNoticePlainText(bookings, originalDate);
+
+            sendEmailWithBooking(
+                first.getEmail(),
+                subject,
+                content,
+                true,
+                bookings.size() == 1 ? first : null
+            );
+
+            logger.info("Reschedule notice sent to {} for {} booking(s)", first.getEmail(), bookings.size());
+        } catch (Exception e) {
+            logger.error("Failed to send reschedule notice for {}", first.getBookingId(), e);
+        }
+    }
+
     private void sendEmailWithBooking(String toEmail, String subject, String content, boolean plainText, Booking booking) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        emailsInFlight.incrementAndGet();
+        try {
+            doSendEmailWithBooking(toEmail, subject, content, plainText, booking);
+            outcome = "success";
+        } finally {
+            emailsInFlight.decrementAndGet();
+            sample.stop(Timer.builder("email.send")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            if ("error".equals(outcome)) {
+                meterRegistry.counter("email.send.failures").increment();
+            }
+        }
+    }
+
+    private void doSendEmailWithBooking(String toEmail, String subject, String content, boolean plainText, Booking booking) throws Exception {
         MimeMessage mime;
         
-        if (deliverabilityConfig.isIncludeCalendarInvite()) {
+        if (booking != null && deliverabilityConfig.isIncludeCalendarInvite()) {
             mime = createEmailWithCalendarInvite(toEmail, subject, content, plainText, booking);
         } else {
             mime = createEmail(toEmail, subject, content, plainText);
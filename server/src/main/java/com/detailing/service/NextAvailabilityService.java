@@ -0,0 +1,139 @@
+package com.detailing.service;
+
+import com.detailing.event.AvailabilityChangedEvent;
+import com.detailing.event.AvailabilityRulesChangedEvent;
+import com.detailing.event.ServiceCatalogChangedEvent;
+import com.detailing.model.AvailabilitySnapshot;
+import com.detailing.repository.AvailabilityAsyncRepository;
+import com.detailing.util.TimeSlotUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+@Service
+public class NextAvailabilityService {
+
+    private final AvailabilityService availabilityService;
+    private final AvailabilityAsyncRepository availabilityAsyncRepository;
+    private final int maxDays;
+    private final int batchDays;
+    private final int maxLimit;
+    private final Cache<NextQuery, List<Map<String, String>>> resultCache;
+
+    @Autowired
+    public NextAvailabilityService(AvailabilityService availabilityService,
+                                   AvailabilityAsyncRepository availabilityAsyncRepository,
+                                   @Value("${availability.next.max-days:60}") int maxDays,
+                                   @Value("${availability.next.batch-days:7}") int batchDays,
+                                   @Value("${availability.next.max-limit:20}") int maxLimit,
+                                   @Value("${availability.next.cache-ttl-seconds:10}") long cacheTtlSeconds,
+                                   MeterRegistry meterRegistry) {
+        this.availabilityService = availabilityService;
+        this.availabilityAsyncRepository = availabilityAsyncRepository;
+        this.maxDays = maxDays;
+        this.batchDays = batchDays;
+        this.maxLimit = maxLimit;
+        this.resultCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(1000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, resultCache, "nextAvailability");
+    }
+
+    public List<Map<String, String>> findNextAvailable(String serviceType, LocalDateTime after, int limit) {
+        NextQuery query = new NextQuery(serviceType, after.truncatedTo(ChronoUnit.MINUTES), Math.min(limit, maxLimit));
+        return resultCache.get(query, this::search);
+    }
+
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        resultCache.invalidateAll();
+    }
+
+    @EventListener
+    public void onRulesChanged(AvailabilityRulesChangedEvent event) {
+        resultCache.invalidateAll();
+    }
+
+    @EventListener
+    public void onCatalogChanged(ServiceCatalogChangedEvent event) {
+        if (event.isDurationsChanged()) {
+            resultCache.invalidateAll();
+        }
+    }
+
+    private List<Map<String, String>> search(NextQuery query) {
+        LocalDate firstDay = query.after().toLocalDate();
+        LocalDate lastDay = firstDay.plusDays(maxDays - 1L);
+        List<Map<String, String>> found = new ArrayList<>();
+
+        for (LocalDate batchStart = firstDay; !batchStart.isAfter(lastDay); batchStart = batchStart.plusDays(batchDays)) {
+            Map<String, AvailabilitySnapshot> snapshots = prefetch(batchStart, lastDay);
+            for (AvailabilitySnapshot snapshot : snapshots.values()) {
+                LocalDate date = TimeSlotUtil.parseDate(snapshot.getDate());
+                for (String slot : availabilityService.fitStartSlots(snapshot, query.serviceType(), null)) {
+                    if (!date.atTime(TimeSlotUtil.parseTime(slot)).isAfter(query.after())) {
+                        continue;
+                    }
+                    Map<String, String> match = new LinkedHashMap<>();
+                    match.put("date", snapshot.getDate());
+                    match.put("slot", slot);
+                    found.add(match);
+                    if (found.size() >= query.limit()) {
+                        return List.copyOf(found);
+                    }
+                }
+            }
+        }
+        return List.copyOf(found);
+    }
+
+    private Map<String, AvailabilitySnapshot> prefetch(LocalDate batchStart, LocalDate lastDay) {
+        Map<String, AvailabilitySnapshot> snapshots = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < batchDays; i++) {
+            LocalDate date = batchStart.plusDays(i);
+            if (date.isAfter(lastDay)) {
+                break;
+            }
+            String dateStr = date.format(TimeSlotUtil.DATE_FMT);
+            AvailabilitySnapshot cached = availabilityService.getCachedDaySnapshot(dateStr);
+            snapshots.put(dateStr, cached);
+            if (cached == null) {
+                missing.add(dateStr);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                availabilityAsyncRepository.findByDates(missing).join()
+                        .forEach((dateStr, entries) -> snapshots.put(dateStr, availabilityService.buildDaySnapshot(dateStr, entries)));
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return snapshots;
+    }
+
+    private record NextQuery(String serviceType, LocalDateTime after, int limit) {
+    }
+}
@@ -1,7 +1,18 @@
 package com.detailing.service;
 
+import com.detailing.config.DynamicPricingConfig;
+import com.detailing.model.AddonDefinition;
+import com.detailing.model.Booking;
+import com.detailing.model.PriceQuote;
+import com.detailing.model.PriceQuoteRequest;
+import com.detailing.model.ServiceCatalog;
+import com.detailing.model.ServiceDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,45 +20,207 @@ import java.util.Map;
 @Service
 public class PricingService {
 
-    private static final Map<String, Integer> SERVICE_PRICES = new HashMap<>();
-    static {
-        SERVICE_PRICES.put("basic_shine", 6000);
-        SERVICE_PRICES.put("full_interior", 9000);
-        SERVICE_PRICES.put("earned_signature", 13000);
+    public static final int UNKNOWN_CODE = -1;
+
+    private final ServiceConfigurationService serviceConfigurationService;
+    private final DynamicPricingConfig dynamicPricingConfig;
+    private volatile PriceTable priceTable;
+
+    @Autowired
+    public PricingService(ServiceConfigurationService serviceConfigurationService,
+                          DynamicPricingConfig dynamicPricingConfig) {
+        this.serviceConfigurationService = serviceConfigurationService;
+        this.dynamicPricingConfig = dynamicPricingConfig;
     }
 
-    private static final Map<String, Integer> ADDON_PRICES = new HashMap<>();
-    static {
-        ADDON_PRICES.put("clay_bar_treatment", 4000);
-        ADDON_PRICES.put("headlight_restoration", 3000);
-        ADDON_PRICES.put("high_gloss_tire_dressing", 1000);
-        ADDON_PRICES.put("windshield_rain_repellent", 1500);
-        
-        ADDON_PRICES.put("pet_hair_removal", 2000);
-        ADDON_PRICES.put("ozone_odor_treatment", 3000);
-        ADDON_PRICES.put("stain_extraction", 1000);
-        
-        ADDON_PRICES.put("engine_bay_deep_cleaning", 3000);
-        ADDON_PRICES.put("scratch_paint_touch_up", 5000);
+    public PriceTable getPriceTable() {
+        ServiceCatalog catalog = serviceConfigurationService.getCatalog();
+        PriceTable table = priceTable;
+        if (table == null || table.getCatalogVersion() != catalog.getVersion()) {
+            table = new PriceTable(catalog);
+            priceTable = table;
+        }
+        return table;
     }
 
     public int calculateTotalPrice(String serviceType, List<String> addons) {
-        int total = SERVICE_PRICES.getOrDefault(serviceType, 0);
-        
-        if (addons != null) {
-            for (String addon : addons) {
-                total += ADDON_PRICES.getOrDefault(addon, 0);
+        PriceTable table = getPriceTable();
+        return table.totalPriceCents(table.serviceCode(serviceType), table.addonCodes(addons));
+    }
+
+    public int calculateTotalPrice(String serviceType, List<String> addons, LocalDateTime start, double occupancyRatio) {
+        PriceTable table = getPriceTable();
+        int serviceCode = table.serviceCode(serviceType);
+        int serviceCents = table.servicePriceCents(serviceCode);
+        int total = table.totalPriceCents(serviceCode, table.addonCodes(addons));
+        return total - serviceCents + adjustServicePrice(serviceCents, start, occupancyRatio, LocalDateTime.now());
+    }
+
+    public boolean isDynamicPricingEnabled() {
+        return dynamicPricingConfig.isEnabled();
+    }
+
+    public int adjustServicePrice(int serviceCents, LocalDateTime start, double occupancyRatio, LocalDateTime now) {
+        if (!dynamicPricingConfig.isEnabled() || serviceCents <= 0) {
+            return serviceCents;
+        }
+        int percent = dynamicAdjustmentPercent(start, occupancyRatio, now);
+        return (int) Math.round(serviceCents * (100 + percent) / 100.0);
+    }
+
+    private int dynamicAdjustmentPercent(LocalDateTime start, double occupancyRatio, LocalDateTime now) {
+        DynamicPricingConfig config = dynamicPricingConfig;
+        boolean peakDay = config.getPeakDays() != null && config.getPeakDays().contains(start.getDayOfWeek());
+
+        int percent = 0;
+        if (peakDay) {
+            percent += config.getPeakDayPremiumPercent();
+        }
+        if (occupancyRatio >= config.getHighOccupancyThreshold()) {
+            percent += config.getHighOccupancyPremiumPercent();
+        } else if (!peakDay && occupancyRatio < config.getLowOccupancyThreshold()) {
+            percent -= config.getLowOccupancyDiscountPercent();
+            if (Duration.between(now, start).toHours() < config.getLastMinuteHours()) {
+                percent -= config.getLastMinuteDiscountPercent();
             }
         }
-        
-        return total;
+        return Math.max(config.getMinAdjustmentPercent(), Math.min(config.getMaxAdjustmentPercent(), percent));
+    }
+
+    public List<PriceQuote> quote(PriceTable table, List<PriceQuoteRequest> carts) {
+        if (carts == null) {
+            throw new IllegalArgumentException("Carts are required");
+        }
+        List<PriceQuote> quotes = new ArrayList<>(carts.size());
+        for (PriceQuoteRequest cart : carts) {
+            if (cart == null) {
+                throw new IllegalArgumentException("Carts must not be null");
+            }
+            int serviceCode = table.serviceCode(cart.getServiceType());
+            int[] addonCodes = table.addonCodes(cart.getAddons());
+
+            List<PriceQuote.Line> lines = new ArrayList<>(addonCodes.length + 1);
+            lines.add(new PriceQuote.Line("service", cart.getServiceType(),
+                    table.servicePriceCents(serviceCode), serviceCode != UNKNOWN_CODE));
+            boolean valid = serviceCode != UNKNOWN_CODE;
+            for (int i = 0; i < addonCodes.length; i++) {
+                boolean known = addonCodes[i] != UNKNOWN_CODE;
+                lines.add(new PriceQuote.Line("addon", cart.getAddons().get(i),
+                        table.addonPriceCents(addonCodes[i]), known));
+                valid &= known;
+            }
+
+            quotes.add(new PriceQuote(cart.getServiceType(), cart.getVehicleType(), lines,
+                    table.totalPriceCents(serviceCode, addonCodes), valid));
+        }
+        return quotes;
+    }
+
+    public int getBookingPriceCents(Booking booking) {
+        Integer snapshot = booking.getTotalPriceCents();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return calculateTotalPrice(booking.getServiceType(), booking.getAddons());
     }
 
     public int getServicePrice(String serviceType) {
-        return SERVICE_PRICES.getOrDefault(serviceType, 0);
+        PriceTable table = getPriceTable();
+        return table.servicePriceCents(table.serviceCode(serviceType));
     }
 
     public int getAddonPrice(String addonId) {
-        return ADDON_PRICES.getOrDefault(addonId, 0);
+        PriceTable table = getPriceTable();
+        return table.addonPriceCents(table.addonCode(addonId));
+    }
+
+    public static final class PriceTable {
+
+        private final long catalogVersion;
+        private final Map<String, Integer> serviceCodes;
+        private final Map<String, Integer> addonCodes;
+        private final String[] serviceIds;
+        private final String[] addonIds;
+        private final int[] servicePriceCents;
+        private final int[] addonPriceCents;
+
+        private PriceTable(ServiceCatalog catalog) {
+            List<ServiceDefinition> services = catalog.getServices();
+            List<AddonDefinition> addons = catalog.getAddons();
+
+            this.catalogVersion = catalog.getVersion();
+            this.serviceCodes = new HashMap<>(services.size() * 2);
+            this.addonCodes = new HashMap<>(addons.size() * 2);
+            this.serviceIds = new String[services.size()];
+            this.addonIds = new String[addons.size()];
+            this.servicePriceCents = new int[services.size()];
+            this.addonPriceCents = new int[addons.size()];
+
+            for (int i = 0; i < services.size(); i++) {
+                ServiceDefinition service = services.get(i);
+                serviceCodes.put(service.getId(), i);
+                serviceIds[i] = service.getId();
+                servicePriceCents[i] = toCents(service.getPrice());
+            }
+            for (int i = 0; i < addons.size(); i++) {
+                AddonDefinition addon = addons.get(i);
+                addonCodes.put(addon.getId(), i);
+                addonIds[i] = addon.getId();
+                addonPriceCents[i] = toCents(addon.getPrice());
+            }
+        }
+
+        private static int toCents(double price) {
+            return (int) Math.round(price * 100);
+        }
+
+        public long getCatalogVersion() {
+            return catalogVersion;
+        }
+
+        public int serviceCode(String serviceId) {
+            Integer code = serviceId == null ? null : serviceCodes.get(serviceId);
+            return code != null ? code : UNKNOWN_CODE;
+        }
+
+        public int addonCode(String addonId) {
+            Integer code = addonId == null ? null : addonCodes.get(addonId);
+            return code != null ? code : UNKNOWN_CODE;
+        }
+
+        public int[] addonCodes(List<String> addons) {
+            if (addons == null || addons.isEmpty()) {
+                return new int[0];
+            }
+            int[] codes = new int[addons.size()];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = addonCode(addons.get(i));
+            }
+            return codes;
+        }
+
+        public String serviceId(int serviceCode) {
+            return serviceCode >= 0 && serviceCode < serviceIds.length ? serviceIds[serviceCode] : null;
+        }
+
+        public String addonId(int addonCode) {
+            return addonCode >= 0 && addonCode < addonIds.length ? addonIds[addonCode] : null;
+        }
+
+        public int servicePriceCents(int serviceCode) {
+            return serviceCode >= 0 && serviceCode < servicePriceCents.length ? servicePriceCents[serviceCode] : 0;
+        }
+
+        public int addonPriceCents(int addonCode) {
+            return addonCode >= 0 && addonCode < addonPriceCents.length ? addonPriceCents[addonCode] : 0;
+        }
+
+        public int totalPriceCents(int serviceCode, int[] addonCodes) {
+            int total = servicePriceCents(serviceCode);
+            for (int addonCode : addonCodes) {
+                total += addonPriceCents(addonCode);
+            }
+            return total;
+        }
     }
-} 
+}
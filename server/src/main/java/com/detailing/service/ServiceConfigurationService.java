@@ -1,71 +1,208 @@
 package com.detailing.service;
 
+import com.detailing.event.ServiceCatalogChangedEvent;
+import com.detailing.model.AddonDefinition;
+import com.detailing.model.ServiceCatalog;
 import com.detailing.model.ServiceDefinition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class ServiceConfigurationService {
 
-    private static final List<ServiceDefinition> SERVICES = Arrays.asList(
-        new ServiceDefinition(
-            "basic_shine",
-            "Basic Shine Package",
-            "Essential car cleaning with exterior wash and basic interior cleaning",
-            60.0,
-            60,
-            1
-        ),
-        new ServiceDefinition(
-            "full_interior",
-            "Full Interior Shine",
-            "Complete interior detailing including deep cleaning, vacuuming, and conditioning",
-            90.0,
-            120,
-            2
-        ),
-        new ServiceDefinition(
-            "earned_signature",
-            "Earned Shine Signature Package",
-            "Premium full-service detailing with exterior wash, wax, interior deep clean, and protection",
-            130.0,
-            180,
-            3
-        )
-    );
+    private static final Logger logger = LoggerFactory.getLogger(ServiceConfigurationService.class);
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String catalogLocation;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile ServiceCatalog catalog;
+    private volatile long catalogLastModified = -1L;
+
+    @Autowired
+    public ServiceConfigurationService(ResourceLoader resourceLoader,
+                                       ObjectMapper objectMapper,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${catalog.location:classpath:catalog/services.json}") String catalogLocation) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.catalogLocation = catalogLocation;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load service catalog from " + catalogLocation, e);
+        }
+    }
+
+    public ServiceCatalog reload() throws IOException {
+        reloadLock.lock();
+        try {
+            return doReload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private ServiceCatalog doReload() throws IOException {
+        Resource resource = resourceLoader.getResource(catalogLocation);
+        long lastModified = lastModified(resource);
+
+        CatalogFile file;
+        try (InputStream in = resource.getInputStream()) {
+            file = objectMapper.readValue(in, CatalogFile.class);
+        }
+        validate(file);
+
+        ServiceCatalog previous = catalog;
+        long previousVersion = previous != null ? previous.getVersion() : 0L;
+        ServiceCatalog next = new ServiceCatalog(previousVersion + 1, file.getServices(), file.getAddons());
+
+        catalog = next;
+        catalogLastModified = lastModified;
+        logger.info("Loaded service catalog version {} with {} services from {}", next.getVersion(), next.size(), catalogLocation);
+
+        if (previous != null) {
+            eventPublisher.publishEvent(new ServiceCatalogChangedEvent(
+                    previousVersion, next.getVersion(), !next.hasSameDurations(previous)));
+        }
+        return next;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.refresh-interval-ms:60000}",
+               initialDelayString = "${catalog.refresh-interval-ms:60000}")
+    public void refreshIfModified() {
+        try {
+            Resource resource = resourceLoader.getResource(catalogLocation);
+            long lastModified = lastModified(resource);
+            if (lastModified > 0 && lastModified != catalogLastModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to refresh service catalog from {}, keeping version {}: {}",
+                    catalogLocation, getCatalogVersion(), e.getMessage());
+        }
+    }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    private void validate(CatalogFile file) {
+        if (file == null || file.getServices() == null || file.getServices().isEmpty()) {
+            throw new IllegalArgumentException("Service catalog must define at least one service");
+        }
+        for (ServiceDefinition service : file.getServices()) {
+            if (service.getId() == null || service.getId().isBlank()) {
+                throw new IllegalArgumentException("Service catalog entry is missing an id");
+            }
+            if (service.getDurationMinutes() <= 0) {
+                throw new IllegalArgumentException("Service " + service.getId() + " must have a positive duration");
+            }
+            if (service.getPrice() < 0) {
+                throw new IllegalArgumentException("Service " + service.getId() + " must not have a negative price");
+            }
+        }
+        if (file.getAddons() == null) {
+            file.setAddons(new ArrayList<>());
+        }
+        for (AddonDefinition addon : file.getAddons()) {
+            if (addon.getId() == null || addon.getId().isBlank()) {
+                throw new IllegalArgumentException("Addon catalog entry is missing an id");
+            }
+            if (addon.getPrice() < 0) {
+                throw new IllegalArgumentException("Addon " + addon.getId() + " must not have a negative price");
+            }
+        }
+    }
+
+    public ServiceCatalog getCatalog() {
+        return catalog;
+    }
+
+    public long getCatalogVersion() {
+        return catalog.getVersion();
+    }
 
     public List<ServiceDefinition> getAllServices() {
-        return SERVICES;
+        return catalog.getServices();
+    }
+
+    public List<AddonDefinition> getAllAddons() {
+        return catalog.getAddons();
+    }
+
+    public Optional<AddonDefinition> getAddonById(String addonId) {
+        return Optional.ofNullable(catalog.findAddon(addonId));
     }
 
     public Optional<ServiceDefinition> getServiceById(String serviceId) {
-        return SERVICES.stream()
-            .filter(service -> service.getId().equals(serviceId))
-            .findFirst();
+        return Optional.ofNullable(catalog.findService(serviceId));
     }
 
     public double getServicePrice(String serviceId) {
-        return getServiceById(serviceId)
-            .map(ServiceDefinition::getPrice)
-            .orElse(0.0);
+        ServiceDefinition service = catalog.findService(serviceId);
+        return service != null ? service.getPrice() : 0.0;
     }
 
     public int getServiceDurationMinutes(String serviceId) {
-        return getServiceById(serviceId)
-            .map(ServiceDefinition::getDurationMinutes)
-            .orElse(60); 
+        ServiceDefinition service = catalog.findService(serviceId);
+        return service != null ? service.getDurationMinutes() : 60;
     }
 
     public String getServiceName(String serviceId) {
-        return getServiceById(serviceId)
-            .map(ServiceDefinition::getName)
-            .orElse(serviceId);
+        ServiceDefinition service = catalog.findService(serviceId);
+        return service != null ? service.getName() : serviceId;
     }
 
     public boolean isValidServiceId(String serviceId) {
-        return getServiceById(serviceId).isPresent();
+        return catalog.findService(serviceId) != null;
+    }
+
+    public static class CatalogFile {
+        private List<ServiceDefinition> services = new ArrayList<>();
+        private List<AddonDefinition> addons = new ArrayList<>();
+
+        public List<ServiceDefinition> getServices() {
+            return services;
+        }
+
+        public void setServices(List<ServiceDefinition> services) {
+            this.services = services;
+        }
+
+        public List<AddonDefinition> getAddons() {
+            return addons;
+        }
+
+        public void setAddons(List<AddonDefinition> addons) {
+            this.addons = addons;
+        }
     }
-} 
+}
@@ -0,0 +1,111 @@
+package com.detailing.service;
+
+import com.detailing.model.AvailabilitySnapshot;
+import com.detailing.model.ServiceDefinition;
+import com.detailing.util.TimeSlotUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class SlotRecommendationService {
+
+    private final AvailabilityService availabilityService;
+    private final ServiceConfigurationService serviceConfigurationService;
+
+    @Autowired
+    public SlotRecommendationService(AvailabilityService availabilityService,
+                                     ServiceConfigurationService serviceConfigurationService) {
+        this.availabilityService = availabilityService;
+        this.serviceConfigurationService = serviceConfigurationService;
+    }
+
+    public List<Map<String, Object>> rankStartSlots(LocalDate date, String serviceType, String excludeBookingId) {
+        AvailabilitySnapshot snapshot = availabilityService.getDaySnapshot(date);
+        if (snapshot.isDayBlocked()) {
+            return List.of();
+        }
+
+        int needed = availabilityService.requiredSlotCount(serviceType);
+        List<Candidate> candidates = rankCandidates(snapshot.freeMask(excludeBookingId), snapshot.getSlotCount(),
+                needed, serviceMixSlotCounts());
+
+        List<Map<String, Object>> ranked = new ArrayList<>(candidates.size());
+        for (Candidate c : candidates) {
+            Map<String, Object> suggestion = new LinkedHashMap<>();
+            suggestion.put("slot", TimeSlotUtil.WORKING_HOURS.get(c.start()));
+            suggestion.put("rank", ranked.size() + 1);
+            suggestion.put("remainingCapacity", Math.round(c.capacity() * 100) / 100.0);
+            suggestion.put("strandedSlots", c.stranded());
+            ranked.add(suggestion);
+        }
+        return ranked;
+    }
+
+    static List<Candidate> rankCandidates(long free, int slotCount, int needed, int[] jobLengths) {
+        int shortestJob = jobLengths.length > 0 ? jobLengths[0] : 1;
+        long candidate = (1L << needed) - 1;
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int start = 0; start + needed <= slotCount; start++) {
+            long occupied = candidate << start;
+            if ((free & occupied) != occupied) {
+                continue;
+            }
+            long remaining = free & ~occupied;
+            double capacity = 0;
+            int stranded = 0;
+            int run = 0;
+            for (int i = 0; i <= slotCount; i++) {
+                if (i < slotCount && (remaining & (1L << i)) != 0) {
+                    run++;
+                    continue;
+                }
+                if (run > 0) {
+                    capacity += jobCapacity(run, jobLengths);
+                    if (run < shortestJob) {
+                        stranded += run;
+                    }
+                    run = 0;
+                }
+            }
+            candidates.add(new Candidate(start, capacity, stranded));
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::capacity).reversed()
+                .thenComparingInt(Candidate::stranded)
+                .thenComparingInt(Candidate::start));
+        return candidates;
+    }
+
+    private int[] serviceMixSlotCounts() {
+        List<ServiceDefinition> services = serviceConfigurationService.getAllServices();
+        int[] lengths = new int[services.size()];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = availabilityService.requiredSlotCount(services.get(i).getId());
+        }
+        Arrays.sort(lengths);
+        return lengths;
+    }
+
+    private static double jobCapacity(int run, int[] jobLengths) {
+        if (jobLengths.length == 0) {
+            return run;
+        }
+        double capacity = 0;
+        for (int length : jobLengths) {
+            capacity += run / length;
+        }
+        return capacity / jobLengths.length;
+    }
+
+    record Candidate(int start, double capacity, int stranded) {
+    }
+}
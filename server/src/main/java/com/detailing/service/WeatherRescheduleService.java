@@ -0,0 +1,271 @@
+package com.detailing.service;
+
+import com.detailing.model.Availability;
+import com.detailing.model.Booking;
+import com.detailing.repository.AvailabilityAsyncRepository;
+import com.detailing.repository.AvailabilityRepository;
+import com.detailing.repository.BookingMoveRepository;
+import com.detailing.repository.BookingRepository;
+import com.detailing.util.TimeSlotUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class WeatherRescheduleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeatherRescheduleService.class);
+
+    private final AvailabilityRepository availabilityRepository;
+    private final AvailabilityAsyncRepository availabilityAsyncRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingMoveRepository bookingMoveRepository;
+    private final AvailabilityService availabilityService;
+    private final GmailService gmailService;
+    private final TaskExecutor emailExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int searchDays;
+    private final int maxAttempts;
+    private final ReentrantLock rescheduleLock = new ReentrantLock();
+
+    public WeatherRescheduleService(AvailabilityRepository availabilityRepository,
+                                    AvailabilityAsyncRepository availabilityAsyncRepository,
+                                    BookingRepository bookingRepository,
+                                    BookingMoveRepository bookingMoveRepository,
+                                    AvailabilityService availabilityService,
+                                    GmailService gmailService,
+                                    @Qualifier("emailExecutor") TaskExecutor emailExecutor,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${availability.reschedule.search-days:14}") int searchDays,
+                                    @Value("${availability.reschedule.max-attempts:3}") int maxAttempts) {
+        this.availabilityRepository = availabilityRepository;
+        this.availabilityAsyncRepository = availabilityAsyncRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingMoveRepository = bookingMoveRepository;
+        this.availabilityService = availabilityService;
+        this.gmailService = gmailService;
+        this.emailExecutor = emailExecutor;
+        this.meterRegistry = meterRegistry;
+        this.searchDays = searchDays;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Map<String, Object> rescheduleDay(LocalDate date) {
+        rescheduleLock.lock();
+        try {
+            return reschedule(date);
+        } finally {
+            rescheduleLock.unlock();
+        }
+    }
+
+    private Map<String, Object> reschedule(LocalDate date) {
+        String dateStr = date.format(TimeSlotUtil.DATE_FMT);
+        List<Availability> entries = availabilityRepository.findByDate(dateStr, true);
+        if (!availabilityService.buildDaySnapshot(dateStr, entries).isDayBlocked()) {
+            throw new IllegalArgumentException("Block " + dateStr + " before rescheduling its bookings");
+        }
+
+        Map<String, List<Availability>> heldSlots = new LinkedHashMap<>();
+        for (Availability entry : entries) {
+            if (entry.getStatus() == Availability.AvailabilityStatus.BOOKED && entry.getBookingId() != null) {
+                heldSlots.computeIfAbsent(entry.getBookingId(), key -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        List<Map<String, Object>> moved = new ArrayList<>();
+        List<Map<String, Object>> unplaced = new ArrayList<>();
+        List<Booking> toMove = new ArrayList<>();
+        Map<String, Booking> bookings = heldSlots.isEmpty() ? Map.of() : bookingRepository.findAllByIds(heldSlots.keySet(), true);
+        for (String bookingId : heldSlots.keySet()) {
+            Booking booking = bookings.get(bookingId);
+            if (booking == null || booking.getAppointmentTime() == null
+                    || !(booking.getStatus() == Booking.BookingStatus.CONFIRMED
+                        || booking.getStatus() == Booking.BookingStatus.PENDING_PAYMENT)) {
+                unplaced.add(outcome(bookingId, "booking is not active"));
+                continue;
+            }
+            toMove.add(booking);
+        }
+        toMove.sort(Comparator.comparing(Booking::getAppointmentTime));
+
+        Map<String, List<String>> released = new LinkedHashMap<>();
+        Map<String, List<String>> claimed = new LinkedHashMap<>();
+        Map<String, List<Booking>> byCustomer = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        try {
+            moveAll(date, toMove, heldSlots, moved, unplaced, released, claimed, byCustomer);
+        } catch (RuntimeException e) {
+            failure = e;
+            logger.error("Rescheduling bookings off {} stopped after {} move(s): {}", dateStr, moved.size(), e.getMessage(), e);
+            Set<Object> accounted = new HashSet<>();
+            moved.forEach(outcome -> accounted.add(outcome.get("bookingId")));
+            unplaced.forEach(outcome -> accounted.add(outcome.get("bookingId")));
+            for (Booking booking : toMove) {
+                if (!accounted.contains(booking.getBookingId())) {
+                    unplaced.add(outcome(booking.getBookingId(), "rescheduling stopped: " + e.getMessage()));
+                }
+            }
+        } finally {
+            try {
+                availabilityService.recordMoves(released, claimed);
+            } catch (RuntimeException e) {
+                logger.warn("Could not refresh availability after rescheduling {}: {}", dateStr, e.getMessage());
+            }
+            for (List<Booking> customerBookings : byCustomer.values()) {
+                try {
+                    emailExecutor.execute(() -> gmailService.sendRescheduleNotice(customerBookings, date));
+                } catch (RuntimeException e) {
+                    logger.warn("Could not queue reschedule notice for {}: {}",
+                            customerBookings.get(0).getBookingId(), e.getMessage());
+                }
+            }
+        }
+
+        meterRegistry.counter("availability.reschedule.bookings", "outcome", "moved").increment(moved.size());
+        meterRegistry.counter("availability.reschedule.bookings", "outcome", "unplaced").increment(unplaced.size());
+        logger.info("Rescheduled {} booking(s) off {}, {} left in place", moved.size(), dateStr, unplaced.size());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("date", dateStr);
+        result.put("moved", moved);
+        result.put("unplaced", unplaced);
+        result.put("notifications", byCustomer.size());
+        if (failure != null) {
+            result.put("error", "Rescheduling stopped before every booking was placed");
+            result.put("message", String.valueOf(failure.getMessage()));
+        }
+        return result;
+    }
+
+    private void moveAll(LocalDate date, List<Booking> toMove, Map<String, List<Availability>> heldSlots,
+                         List<Map<String, Object>> moved, List<Map<String, Object>> unplaced,
+                         Map<String, List<String>> released, Map<String, List<String>> claimed,
+                         Map<String, List<Booking>> byCustomer) {
+        String dateStr = date.format(TimeSlotUtil.DATE_FMT);
+        Map<String, Long> freeMasks = toMove.isEmpty() ? Map.of() : loadFreeMasks(date);
+
+        for (Booking booking : toMove) {
+            int needed = availabilityService.requiredSlotCount(booking.getServiceType());
+            LocalDateTime originalTime = booking.getAppointmentTime();
+            List<Availability> release = heldSlots.get(booking.getBookingId());
+
+            String failure = "no opening within " + searchDays + " days";
+            for (int attempt = 0; attempt < maxAttempts; attempt++) {
+                Placement placement = firstFit(freeMasks, needed);
+                if (placement == null) {
+                    break;
+                }
+                freeMasks.put(placement.date(), freeMasks.get(placement.date()) & ~placement.mask());
+
+                List<Availability> claim = new ArrayList<>(needed);
+                for (int i = placement.start(); i < placement.start() + needed; i++) {
+                    claim.add(bookedEntry(placement.date(), TimeSlotUtil.WORKING_HOURS.get(i), booking.getBookingId()));
+                }
+                booking.setAppointmentTime(LocalDateTime.of(TimeSlotUtil.parseDate(placement.date()),
+                        TimeSlotUtil.parseTime(TimeSlotUtil.WORKING_HOURS.get(placement.start()))));
+
+                boolean committed;
+                try {
+                    committed = bookingMoveRepository.moveBooking(booking, originalTime, release, claim);
+                } catch (RuntimeException e) {
+                    booking.setAppointmentTime(originalTime);
+                    throw e;
+                }
+                if (committed) {
+                    failure = null;
+                    released.computeIfAbsent(dateStr, key -> new ArrayList<>())
+                            .addAll(release.stream().map(Availability::getSlot).toList());
+                    claimed.computeIfAbsent(placement.date(), key -> new ArrayList<>())
+                            .addAll(claim.stream().map(Availability::getSlot).toList());
+                    break;
+                }
+                booking.setAppointmentTime(originalTime);
+                failure = "slots changed while rescheduling";
+            }
+
+            if (failure != null) {
+                unplaced.add(outcome(booking.getBookingId(), failure));
+                continue;
+            }
+            Map<String, Object> result = outcome(booking.getBookingId(), null);
+            result.put("from", originalTime);
+            result.put("to", booking.getAppointmentTime());
+            moved.add(result);
+            if (booking.getEmail() != null && !booking.getEmail().isBlank()) {
+                byCustomer.computeIfAbsent(booking.getEmail().trim().toLowerCase(), key -> new ArrayList<>()).add(booking);
+            }
+        }
+    }
+
+    private Map<String, Long> loadFreeMasks(LocalDate date) {
+        LocalDate first = date.plusDays(1);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        if (first.isBefore(tomorrow)) {
+            first = tomorrow;
+        }
+
+        List<String> dates = new ArrayList<>(searchDays);
+        for (int i = 0; i < searchDays; i++) {
+            dates.add(first.plusDays(i).format(TimeSlotUtil.DATE_FMT));
+        }
+        Map<String, List<Availability>> stored = availabilityAsyncRepository.findByDates(dates).join();
+
+        Map<String, Long> freeMasks = new LinkedHashMap<>();
+        for (String day : dates) {
+            freeMasks.put(day, availabilityService.buildDaySnapshot(day, stored.getOrDefault(day, List.of())).freeMask(null));
+        }
+        return freeMasks;
+    }
+
+    static Placement firstFit(Map<String, Long> freeMasks, int needed) {
+        long window = needed >= Long.SIZE ? -1L : (1L << needed) - 1;
+        for (Map.Entry<String, Long> day : freeMasks.entrySet()) {
+            long free = day.getValue();
+            for (int start = 0; start + needed <= TimeSlotUtil.WORKING_HOURS.size(); start++) {
+                long mask = window << start;
+                if ((free & mask) == mask) {
+                    return new Placement(day.getKey(), start, mask);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Availability bookedEntry(String date, String slot, String bookingId) {
+        Availability availability = new Availability();
+        availability.setDate(date);
+        availability.setSlot(slot);
+        availability.setStatus(Availability.AvailabilityStatus.BOOKED);
+        availability.setReason("customer_booking");
+        availability.setBookingId(bookingId);
+        return availability;
+    }
+
+    private static Map<String, Object> outcome(String bookingId, String reason) {
+        Map<String, Object> outcome = new LinkedHashMap<>();
+        outcome.put("bookingId", bookingId);
+        if (reason != null) {
+            outcome.put("reason", reason);
+        }
+        return outcome;
+    }
+
+    record Placement(String date, int start, long mask) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.detailing.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlotRecommendationServiceTests {
+
+	private static final int SLOT_COUNT = 11;
+	private static final long OPEN_DAY = (1L << SLOT_COUNT) - 1;
+	private static final int[] SERVICE_MIX = {2, 3};
+
+	@Test
+	void ranksByRemainingCapacityThenStrandedSlotsThenStart() {
+		List<SlotRecommendationService.Candidate> ranked =
+				SlotRecommendationService.rankCandidates(OPEN_DAY, SLOT_COUNT, 2, SERVICE_MIX);
+
+		assertEquals(List.of(0, 3, 6, 9, 2, 4, 5, 7, 1, 8), starts(ranked));
+		assertEquals(3.5, ranked.get(0).capacity());
+		assertEquals(3.0, ranked.get(4).capacity());
+		assertEquals(0, ranked.get(7).stranded());
+		assertEquals(1, ranked.get(8).stranded());
+	}
+
+	@Test
+	void prefersStartsThatLeaveNoStrandedSlotAroundABooking() {
+		long noonBooked = OPEN_DAY & ~(1L << 4);
+
+		List<SlotRecommendationService.Candidate> ranked =
+				SlotRecommendationService.rankCandidates(noonBooked, SLOT_COUNT, 3, SERVICE_MIX);
+
+		assertEquals(List.of(5, 8, 0, 1, 6, 7), starts(ranked));
+		assertEquals(ranked.get(0).capacity(), ranked.get(2).capacity());
+		assertEquals(0, ranked.get(1).stranded());
+		assertEquals(1, ranked.get(2).stranded());
+	}
+
+	private static List<Integer> starts(List<SlotRecommendationService.Candidate> ranked) {
+		return ranked.stream().map(SlotRecommendationService.Candidate::start).toList();
+	}
+
+}
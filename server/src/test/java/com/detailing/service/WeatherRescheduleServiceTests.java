@@ -0,0 +1,54 @@
+package com.detailing.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class WeatherRescheduleServiceTests {
+
+	private static final long OPEN_DAY = (1L << 11) - 1;
+	private static final long ALTERNATE_SLOTS_FREE = 0b10101010101L;
+
+	@Test
+	void firstFitSkipsDaysWithoutAContiguousRun() {
+		Map<String, Long> freeMasks = new LinkedHashMap<>();
+		freeMasks.put("2026-10-20", ALTERNATE_SLOTS_FREE);
+		freeMasks.put("2026-10-21", OPEN_DAY & ~0b111L);
+
+		WeatherRescheduleService.Placement placement = WeatherRescheduleService.firstFit(freeMasks, 2);
+
+		assertEquals("2026-10-21", placement.date());
+		assertEquals(3, placement.start());
+		assertEquals(0b11000L, placement.mask());
+	}
+
+	@Test
+	void firstFitHonoursSlotsTakenByEarlierPlacements() {
+		Map<String, Long> freeMasks = new LinkedHashMap<>();
+		freeMasks.put("2026-10-20", 0b1111L);
+		freeMasks.put("2026-10-21", OPEN_DAY);
+
+		WeatherRescheduleService.Placement first = WeatherRescheduleService.firstFit(freeMasks, 3);
+		freeMasks.put(first.date(), freeMasks.get(first.date()) & ~first.mask());
+		WeatherRescheduleService.Placement second = WeatherRescheduleService.firstFit(freeMasks, 3);
+
+		assertEquals("2026-10-20", first.date());
+		assertEquals(0, first.start());
+		assertEquals("2026-10-21", second.date());
+		assertEquals(0, second.start());
+	}
+
+	@Test
+	void firstFitReturnsNullWhenNoDayHasRoom() {
+		Map<String, Long> freeMasks = new LinkedHashMap<>();
+		freeMasks.put("2026-10-20", ALTERNATE_SLOTS_FREE);
+		freeMasks.put("2026-10-21", 0b11L);
+
+		assertNull(WeatherRescheduleService.firstFit(freeMasks, 3));
+	}
+
+}